@@ -0,0 +1,98 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.BrandCoordinateApiApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 로그 설정에 따른 요청당 비용을 비교합니다.
+ * <p>
+ * 실제 HTTP 서버를 임의 포트로 띄우고 애플리케이션의 {@code logback-spring.xml}을 그대로 씁니다.
+ * {@code off}는 접근 로그를 끈 기준선, {@code sampled}는 기본 설정(성공한 요청의 1%), {@code all}은 모든 요청을 남기는
+ * 경우이고, {@code debug}는 접근 로그 없이 Spring MVC와 애플리케이션 로그를 DEBUG로 켠 예전 기본 설정입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+public class AccessLogBenchmark {
+
+    @Param({"off", "sampled", "all", "debug"})
+    public String logging;
+
+    @Param({"/api/admin/products?size=100", "/api/products/lowest-prices"})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+    private Path logDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logDirectory = Files.createTempDirectory("access-log-bench");
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.config=classpath:logback-spring.xml",
+                "--access-log.file=" + logDirectory.resolve("access.log")));
+        switch (logging) {
+            case "off" -> args.add("--access-log.enabled=false");
+            case "sampled" -> args.add("--access-log.sample-rate=0.01");
+            case "all" -> args.add("--access-log.sample-rate=1");
+            case "debug" -> args.addAll(List.of("--access-log.enabled=false",
+                    "--logging.level.org.springframework.web=DEBUG",
+                    "--logging.level.com.github.yeokyeong_yoon=DEBUG"));
+            default -> throw new IllegalArgumentException("알 수 없는 logging 값입니다: " + logging);
+        }
+        context = new SpringApplicationBuilder(BrandCoordinateApiApplication.class)
+                .run(args.toArray(String[]::new));
+        String port = context.getEnvironment().getProperty("local.server.port");
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int get() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request,
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEvent;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventProperties;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 운영자가 동시에 상품을 쓰는 상황에서 카탈로그 이벤트 처리량을 측정합니다.
+ * <p>
+ * 쓰기 스레드 4개가 임의의 브랜드로 이벤트를 발행하고, 구독자는 이벤트마다 정해진 양의 CPU를 씁니다. 큐가 차면 발행이
+ * 기다리므로 측정값은 구독자까지 전달된 처리량에 수렴합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CatalogEventBusBenchmark {
+
+    @Param({"1", "4"})
+    public int lanes;
+
+    @Param({"1", "256"})
+    public int maxBatchSize;
+
+    /** 구독자가 이벤트 하나를 처리하는 비용(Blackhole.consumeCPU 토큰)입니다. */
+    @Param({"0", "100"})
+    public int listenerWork;
+
+    @Param("10000")
+    public int brands;
+
+    private CatalogEventBus bus;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogEventProperties properties = new CatalogEventProperties();
+        properties.setLanes(lanes);
+        properties.setMaxBatchSize(maxBatchSize);
+        bus = new CatalogEventBus(List.of(events -> {
+            if (listenerWork > 0) {
+                Blackhole.consumeCPU((long) listenerWork * events.size());
+            }
+        }), properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        bus.destroy();
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private final SplittableRandom random = new SplittableRandom();
+        private long productId;
+    }
+
+    @Benchmark
+    public void publish(Writer writer) {
+        long brandId = writer.random.nextInt(brands);
+        bus.publish(new CatalogEvent.ProductAdded(++writer.productId, brandId, "BRAND", Category.TOP,
+                writer.random.nextInt(1_000, 100_000)));
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogSnapshot;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCacheProperties;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 등록이 계속되는 동안 스냅숏 조회 처리량이 얼마나 떨어지는지 측정합니다.
+ * <p>
+ * {@code readOnly} 그룹은 조회 스레드만, {@code bulkImport} 그룹은 같은 수의 조회 스레드와 등록 스레드 하나를 돌립니다.
+ * 등록 스레드는 새 브랜드의 상품 {@code batchSize}개를 한 번의 갱신으로 넣고, 다음 갱신에서 그 브랜드를 지웁니다.
+ * {@code readAlone}과 {@code readDuringImport} 점수를 비교하면 됩니다. 코어가 스레드 수보다 적으면 등록 스레드가
+ * CPU를 나눠 쓰는 만큼도 함께 떨어지므로, 코어 수를 결과와 함께 적어야 합니다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogSnapshotBenchmark {
+
+    private static final int TOP_AND_PANTS = BrandPriceMatrix.mask(
+            List.of(Category.TOP, Category.PANTS));
+
+    @Param("100000")
+    public int products;
+
+    @Param("1000")
+    public int brands;
+
+    @Param("1000")
+    public int batchSize;
+
+    private ProductColumns productColumns;
+    private CategoryPriceIndex categoryPriceIndex;
+    private BrandPriceMatrix brandPriceMatrix;
+    private PriceRangeCache priceRangeCache;
+    private CatalogVersion catalogVersion;
+    private long nextBrandId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCatalog catalog = SyntheticCatalog.generate(42, products, brands);
+        productColumns = new ProductColumns();
+        categoryPriceIndex = new CategoryPriceIndex(productColumns);
+        brandPriceMatrix = new BrandPriceMatrix(productColumns);
+        priceRangeCache = new PriceRangeCache(new PriceRangeCacheProperties());
+        catalogVersion = new CatalogVersion(productColumns, categoryPriceIndex, brandPriceMatrix,
+                priceRangeCache);
+        catalogVersion.update(() -> {
+            productColumns.reload(catalog.products());
+            categoryPriceIndex.reload();
+            brandPriceMatrix.reload();
+        });
+        nextBrandId = brands + 1;
+    }
+
+    @State(Scope.Thread)
+    public static class Importer {
+
+        private final SplittableRandom random = new SplittableRandom(7);
+    }
+
+    private void read(Blackhole blackhole) {
+        CatalogSnapshot snapshot = catalogVersion.snapshot();
+        blackhole.consume(snapshot.lowest().lowestPrices());
+        blackhole.consume(snapshot.brands().cheapestBrands(TOP_AND_PANTS));
+        blackhole.consume(snapshot.brands().rankedBrands(TOP_AND_PANTS, 0, 10));
+        blackhole.consume(snapshot.version());
+    }
+
+    private void importAndDelete(Importer importer) {
+        long brandId = nextBrandId++;
+        String brandName = "IMPORT-" + brandId;
+        Category[] categories = Category.values();
+        catalogVersion.update(() -> {
+            for (int i = 0; i < batchSize; i++) {
+                Category category = categories[i % categories.length];
+                int price = 1_000 + importer.random.nextInt(1_000) * 100;
+                productColumns.add(brandId, brandName, category, price);
+                categoryPriceIndex.add(brandId, brandName, category, price);
+                brandPriceMatrix.add(brandId, brandName, category, price);
+                priceRangeCache.onProductAdded(category, price);
+            }
+        });
+        catalogVersion.update(() -> {
+            productColumns.removeBrand(brandId);
+            categoryPriceIndex.removeBrand(brandId);
+            brandPriceMatrix.removeBrand(brandId);
+            priceRangeCache.invalidateAll();
+        });
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(3)
+    public void readAlone(Blackhole blackhole) {
+        read(blackhole);
+    }
+
+    @Benchmark
+    @Group("bulkImport")
+    @GroupThreads(3)
+    public void readDuringImport(Blackhole blackhole) {
+        read(blackhole);
+    }
+
+    @Benchmark
+    @Group("bulkImport")
+    @GroupThreads(1)
+    public void importBatch(Importer importer) {
+        importAndDelete(importer);
+    }
+}
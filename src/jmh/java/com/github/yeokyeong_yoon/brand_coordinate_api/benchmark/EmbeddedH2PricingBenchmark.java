@@ -0,0 +1,81 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.BrandCoordinateApiApplication;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogIndexLoader;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.BrandService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.CategoryService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.ProductService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 애플리케이션 컨텍스트를 내장 H2와 함께 띄워, 트랜잭션 프록시와 실제 쿼리를 포함한 서비스 호출 비용을 측정합니다.
+ * <p>
+ * 샘플 데이터(data.sql) 대신 합성 카탈로그를 JDBC 배치로 넣고, 메모리 인덱스를 다시 적재한 뒤 측정을 시작합니다.
+ */
+public class EmbeddedH2PricingBenchmark extends PricingServiceBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BrandCoordinateApiApplication.class)
+                .web(WebApplicationType.NONE)
+                // application.properties보다 우선하도록 명령행 인자로 넘깁니다.
+                // 테이블과 인덱스는 엔티티 매핑으로 만들고, 샘플 데이터는 넣지 않습니다.
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=never",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.org.springframework.web=INFO",
+                        "--logging.level.com.github.yeokyeong_yoon=INFO");
+
+        insert(context.getBean(JdbcTemplate.class), catalog());
+        context.getBean(CatalogIndexLoader.class).load();
+
+        productService = context.getBean(ProductService.class);
+        brandService = context.getBean(BrandService.class);
+        categoryService = context.getBean(CategoryService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, SyntheticCatalog catalog) {
+        List<Object[]> brands = new ArrayList<>(catalog.brandNames().size());
+        for (int i = 0; i < catalog.brandNames().size(); i++) {
+            brands.add(new Object[]{(long) i + 1, catalog.brandNames().get(i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO brand (id, name) VALUES (?, ?)", brands);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (ProductPriceView product : catalog.products()) {
+            batch.add(new Object[]{product.id(), product.brandId(), product.category().name(),
+                    product.price()});
+            if (batch.size() == BATCH_SIZE) {
+                insertProducts(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertProducts(jdbcTemplate, batch);
+        }
+    }
+
+    private static void insertProducts(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (id, brand_id, category, price) VALUES (?, ?, ?, ?)", batch);
+    }
+}
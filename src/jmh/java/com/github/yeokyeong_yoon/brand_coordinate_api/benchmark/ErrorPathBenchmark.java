@@ -0,0 +1,82 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.BrandCoordinateApiApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 요청이 몰릴 때 실패 응답의 처리량과 지연 시간을 같은 API의 성공 응답과 비교합니다.
+ * <p>
+ * 실제 HTTP 서버를 임의 포트로 띄우고 클라이언트 스레드 32개가 한 경로만 계속 호출합니다. {@code limit=0}은 서비스의
+ * 도메인 예외로, 알 수 없는 카테고리는 Spring MVC의 변환 예외로 400 응답이 됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(32)
+public class ErrorPathBenchmark {
+
+    @Param({"/api/products/cheapest-brands?categories=TOP,PANTS&limit=10",
+            "/api/products/cheapest-brands?categories=TOP,PANTS&limit=0",
+            "/api/products/cheapest-brands?categories=TOP,SHIRT&limit=10"})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+    private int expectedStatus;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BrandCoordinateApiApplication.class)
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.org.springframework.web=INFO",
+                        "--logging.level.com.github.yeokyeong_yoon=WARN");
+        String port = context.getEnvironment().getProperty("local.server.port");
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET()
+                .build();
+        expectedStatus = path.endsWith("&limit=10") && !path.contains("SHIRT") ? 200 : 400;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int get() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request,
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
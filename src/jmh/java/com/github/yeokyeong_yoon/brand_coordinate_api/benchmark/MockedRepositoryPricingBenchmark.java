@@ -0,0 +1,66 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCacheProperties;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventProperties;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.BrandService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.CategoryService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.ProductService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저장소를 모의 객체로 바꿔 서비스 자체의 처리 비용과 할당량만 측정합니다.
+ * <p>
+ * 모의 저장소는 실제 쿼리가 돌려줄 행(카테고리별 최저가/최고가 상품)을 미리 계산해 두고 그대로 돌려줍니다.
+ */
+public class MockedRepositoryPricingBenchmark extends PricingServiceBenchmark {
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCatalog catalog = catalog();
+
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findLowestPricedViews()).thenReturn(catalog.lowestPricedViews());
+        for (Category category : Category.values()) {
+            when(productRepository.findPriceRangeViewsByCategory(category))
+                    .thenReturn(catalog.priceRangeViews(category));
+        }
+        BrandRepository brandRepository = mock(BrandRepository.class);
+
+        ProductColumns productColumns = new ProductColumns();
+        CategoryPriceIndex categoryPriceIndex = new CategoryPriceIndex(productColumns);
+        BrandPriceMatrix brandPriceMatrix = new BrandPriceMatrix(productColumns);
+        PriceRangeCache priceRangeCache = new PriceRangeCache(new PriceRangeCacheProperties());
+        CatalogVersion catalogVersion = new CatalogVersion(productColumns, categoryPriceIndex,
+                brandPriceMatrix, priceRangeCache);
+        catalogVersion.update(() -> {
+            productColumns.reload(catalog.products());
+            categoryPriceIndex.reload();
+            brandPriceMatrix.reload();
+        });
+
+        CatalogEventBus catalogEventBus = new CatalogEventBus(List.of(),
+                new CatalogEventProperties());
+
+        productService = new ProductService(productRepository, productColumns, categoryPriceIndex,
+                brandPriceMatrix, priceRangeCache, catalogVersion, catalogEventBus);
+        brandService = new BrandService(brandRepository, productRepository, productColumns,
+                categoryPriceIndex, brandPriceMatrix, priceRangeCache, catalogVersion,
+                catalogEventBus);
+        categoryService = new CategoryService(productRepository, catalogVersion, priceRangeCache);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryLowestPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CheapestBrandResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RankedBrandsResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.BrandService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.CategoryService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격 조회 서비스 벤치마크의 공통 부분입니다. 하위 클래스가 저장소 구성(모의 객체 또는 내장 H2)을 정하고 서비스를 준비합니다.
+ * <p>
+ * 모든 조합은 같은 시드의 {@link SyntheticCatalog}를 사용하므로 두 구성의 결과를 바로 비교할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class PricingServiceBenchmark {
+
+    static final long SEED = 20240301L;
+
+    private static final List<Category> CHEAPEST_BRAND_CATEGORIES = List.of(
+            Category.TOP, Category.PANTS, Category.SNEAKERS);
+
+    @Param({"1000", "100000", "1000000"})
+    protected int products;
+
+    @Param({"10000", "50000"})
+    protected int brands;
+
+    protected ProductService productService;
+    protected BrandService brandService;
+    protected CategoryService categoryService;
+
+    protected SyntheticCatalog catalog() {
+        return SyntheticCatalog.generate(SEED, products, brands);
+    }
+
+    @Benchmark
+    public CategoryLowestPriceResponse productLowestPricesByCategory() {
+        return productService.findLowestPricesByCategory();
+    }
+
+    @Benchmark
+    public List<CheapestBrandResponse.BrandTotal> productCheapestBrandTotal() {
+        return productService.findCheapestBrandTotal(CHEAPEST_BRAND_CATEGORIES);
+    }
+
+    @Benchmark
+    public CategoryPriceResponse productPriceRangeByCategory() {
+        return productService.findPriceRangeByCategory(Category.TOP);
+    }
+
+    @Benchmark
+    public CheapestBrandResponse brandCheapestBrandTotal() {
+        return brandService.findCheapestBrandTotal(CHEAPEST_BRAND_CATEGORIES);
+    }
+
+    /**
+     * 순위 조회는 요청마다 전체 브랜드를 훑으므로 처리량 대신 호출 한 번의 평균 시간(마이크로초)으로 봅니다.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RankedBrandsResponse brandRankedBrandsFirstPage() {
+        return brandService.findRankedBrands(CHEAPEST_BRAND_CATEGORIES, 0, 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RankedBrandsResponse brandRankedBrandsDeepPage() {
+        return brandService.findRankedBrands(CHEAPEST_BRAND_CATEGORIES, 900, 100);
+    }
+
+    @Benchmark
+    public CategoryPriceResponse categoryPriceRangeByCategory() {
+        return categoryService.findPriceRangeByCategory(Category.TOP);
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.BrandCoordinateApiApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 요청이 Tomcat 작업 스레드 수보다 많을 때, 플랫폼 스레드 풀과 가상 스레드의 처리량과 지연 시간 분포를 비교합니다.
+ * <p>
+ * 실제 HTTP 서버를 임의 포트로 띄우고 클라이언트 스레드 256개가 DB를 조회하는 API를 계속 호출합니다. 두 모드 모두 같은 크기의
+ * 커넥션 풀을 씁니다. 가상 스레드 모드는 Java 21 이상에서만 실행할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(256)
+public class ServletThreadingBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    /** 플랫폼 스레드 모드의 Tomcat 최대 작업 스레드 수입니다. 가상 스레드 모드에서는 쓰이지 않습니다. */
+    @Param("64")
+    public int tomcatMaxThreads;
+
+    @Param({"/api/admin/products?size=100", "/api/products/lowest-prices"})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("가상 스레드 모드는 Java 21 이상에서 실행해야 합니다.");
+        }
+        context = new SpringApplicationBuilder(BrandCoordinateApiApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + tomcatMaxThreads,
+                        "--server.tomcat.accept-count=1000",
+                        "--spring.datasource.hikari.maximum-pool-size=16",
+                        "--spring.datasource.hikari.minimum-idle=16",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.org.springframework.web=INFO",
+                        "--logging.level.com.github.yeokyeong_yoon=WARN");
+        String port = context.getEnvironment().getProperty("local.server.port");
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int get() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request,
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새 JVM으로 애플리케이션을 띄워 {@code /api/products/lowest-prices}가 처음 200으로 응답하기까지의 시간을 잽니다.
+ * <p>
+ * {@code jar}는 실행 jar 그대로, {@code extracted}는 라이브러리를 펼친 {@code build/startup/app.jar},
+ * {@code aot}는 여기에 Spring AOT로 미리 만든 빈 정의를, {@code cds}는 CDS 아카이브를, {@code cds-aot}는 둘 다 씁니다.
+ * {@code ./gradlew jmh -Pstartup -PjmhIncludes=Startup}으로 실행하면 필요한 파일을 먼저 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    @Param({"jar", "extracted", "aot", "cds", "cds-aot"})
+    public String mode;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private Path startupDirectory;
+    private Path executableJar;
+    private ProcessBuilder launch;
+    private Process process;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void checkArtifacts() {
+        startupDirectory = Path.of(System.getProperty("startup.dir", "build/startup"));
+        executableJar = Path.of(System.getProperty("startup.jar", "build/libs/app.jar"));
+        for (Path required : List.of(executableJar, startupDirectory.resolve("app.jar"),
+                startupDirectory.resolve("app.jsa"))) {
+            if (!Files.exists(required)) {
+                throw new IllegalStateException(required
+                        + " 파일이 없습니다. ./gradlew startupArchive bootJar -Pstartup 으로 먼저 만드세요.");
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/products/lowest-prices"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        if (mode.startsWith("cds")) {
+            command.add("-XX:SharedArchiveFile=app.jsa");
+        }
+        if (mode.endsWith("aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(mode.equals("jar") ? executableJar.toAbsolutePath().toString() : "app.jar");
+        command.add("--server.port=" + port);
+        command.add("--spring.main.banner-mode=off");
+        launch = new ProcessBuilder(command)
+                .directory(startupDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process == null) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstSuccess() throws IOException, InterruptedException {
+        process = launch.start();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 종료되었습니다: " + process.exitValue());
+            }
+            try {
+                HttpResponse<byte[]> response = client.send(request,
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    return response.body().length;
+                }
+            } catch (ConnectException e) {
+                // Not listening yet.
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException(TIMEOUT + " 안에 응답하지 않았습니다.");
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.benchmark;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 카탈로그입니다. 같은 시드와 크기로 만들면 항상 같은 상품 목록이 나옵니다.
+ * <p>
+ * 카테고리는 상품 순서대로 돌아가며 배정해 모든 카테고리에 상품이 있고, 브랜드와 가격은 시드 기반 난수로 정합니다.
+ * 가격은 100원 단위라 큰 카탈로그에서는 같은 최저가를 가진 브랜드가 여럿 생깁니다.
+ */
+public final class SyntheticCatalog {
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int MIN_PRICE = 1_000;
+    private static final int PRICE_STEPS = 1_000;
+    private static final int PRICE_UNIT = 100;
+
+    private final List<String> brandNames;
+    private final List<ProductPriceView> products;
+
+    private SyntheticCatalog(List<String> brandNames, List<ProductPriceView> products) {
+        this.brandNames = brandNames;
+        this.products = products;
+    }
+
+    public static SyntheticCatalog generate(long seed, int productCount, int brandCount) {
+        List<String> brandNames = new ArrayList<>(brandCount);
+        for (int i = 0; i < brandCount; i++) {
+            brandNames.add("BRAND-" + i);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        List<ProductPriceView> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            int brand = random.nextInt(brandCount);
+            int price = MIN_PRICE + random.nextInt(PRICE_STEPS) * PRICE_UNIT;
+            products.add(new ProductPriceView((long) i + 1, (long) brand + 1, brandNames.get(brand),
+                    CATEGORIES[i % CATEGORIES.length], price));
+        }
+        return new SyntheticCatalog(List.copyOf(brandNames), List.copyOf(products));
+    }
+
+    /**
+     * 브랜드 이름 목록입니다. 브랜드 ID는 목록 위치 + 1입니다.
+     */
+    public List<String> brandNames() {
+        return brandNames;
+    }
+
+    public List<ProductPriceView> products() {
+        return products;
+    }
+
+    /**
+     * 카테고리의 최저가 또는 최고가 상품만 골라냅니다. 가격 범위 쿼리가 돌려주는 행과 같습니다.
+     */
+    public List<ProductPriceView> priceRangeViews(Category category) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (ProductPriceView product : products) {
+            if (product.category() == category) {
+                min = Math.min(min, product.price());
+                max = Math.max(max, product.price());
+            }
+        }
+        List<ProductPriceView> rows = new ArrayList<>();
+        for (ProductPriceView product : products) {
+            if (product.category() == category
+                    && (product.price() == min || product.price() == max)) {
+                rows.add(product);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 카테고리마다 최저가 상품만 골라냅니다.
+     */
+    public List<ProductPriceView> lowestPricedViews() {
+        int[] min = new int[CATEGORIES.length];
+        Arrays.fill(min, Integer.MAX_VALUE);
+        for (ProductPriceView product : products) {
+            int column = product.category().ordinal();
+            min[column] = Math.min(min[column], product.price());
+        }
+        List<ProductPriceView> rows = new ArrayList<>();
+        for (ProductPriceView product : products) {
+            if (product.price() == min[product.category().ordinal()]) {
+                rows.add(product);
+            }
+        }
+        return rows;
+    }
+}
@@ -15,7 +15,6 @@ public class BrandCoordinateApiApplication {
 
     public static void main(String[] args) {
         System.out.println("Starting application...");
-        System.setProperty("logging.level.org.springframework", "DEBUG");
         SpringApplication.run(BrandCoordinateApiApplication.class, args);
         System.out.println("Application started!");
     }
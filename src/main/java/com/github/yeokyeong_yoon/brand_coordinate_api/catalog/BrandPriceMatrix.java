@@ -0,0 +1,681 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CheapestBrandResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RankedBrandsResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 브랜드 x 카테고리 최저가 행렬과, 카테고리 조합(비트마스크)별 최저 총액 브랜드 답을 미리 계산해 두는 인덱스입니다.
+ * <p>
+ * 카테고리가 8개이므로 가능한 조합은 255개이고, 각 조합의 답은 쓰기가 어떤 브랜드의 행을 바꿀 때만 다시 계산됩니다.
+ * 조회는 비트마스크로 답 배열을 한 번 읽는 것으로 끝납니다.
+ * <p>
+ * 조회는 {@link #snapshot()}이 만든 불변 {@link View}로 합니다. 행렬은 {@value #PAGE_BRANDS}개 브랜드씩 나눈 페이지로
+ * 두고, 스냅숏과 공유하는 페이지는 처음 고칠 때만 복사합니다. 순위 조회는 스냅숏의 행렬을 락 없이 훑고, 조합마다 상위
+ * {@value #RANKED_PREFIX}위까지의 순위는 그 조합의 총액이 바뀔 때까지 재사용합니다.
+ * <p>
+ * 상품별 가격은 {@link ProductColumns}에만 있습니다. 브랜드의 카테고리 최저가 상품이 지워지면 그 칸만
+ * {@link ProductColumns}에서 다시 셉니다.
+ */
+@Component
+public class BrandPriceMatrix {
+
+    // Above any total of capped prices (8 * Product.MAX_PRICE), so a real total never matches it.
+    static final int MISSING = Integer.MAX_VALUE;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int COLUMNS = CATEGORIES.length;
+    private static final int MASK_COUNT = 1 << COLUMNS;
+    private static final int[] NO_BRANDS = new int[0];
+    private static final int PAGE_SHIFT = 8;
+    static final int PAGE_BRANDS = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_BRANDS - 1;
+    static final int RANKED_PREFIX = 100;
+
+    private final ProductColumns productColumns;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private String[] brandNames;
+    private boolean namesOwned;
+    // Row-major per page: brand `ordinal` in `column` is at
+    // pages[ordinal >> PAGE_SHIFT][(ordinal & PAGE_MASK) * COLUMNS + column].
+    private int[][] pages;
+    // Pages copied since the last snapshot; the others may be shared with published views.
+    private boolean[] owned;
+    private int brandCount;
+
+    private final int[] bestTotals = new int[MASK_COUNT];
+    private final int[][] bestOrdinals = new int[MASK_COUNT][];
+    private final List<List<CheapestBrandResponse.BrandTotal>> answers = new ArrayList<>(
+            Collections.nCopies(MASK_COUNT, List.of()));
+    private int presentCategories;
+    // Per mask: bumped whenever any brand's total or name for that mask changes.
+    private final long[] rankVersions = new long[MASK_COUNT];
+    // Shared by all views; an entry is only reused by a view with the same rank version.
+    private final AtomicReferenceArray<Ranking> rankedPrefixes = new AtomicReferenceArray<>(
+            MASK_COUNT);
+
+    public BrandPriceMatrix(ProductColumns productColumns) {
+        this.productColumns = productColumns;
+        clear();
+    }
+
+    /**
+     * 카테고리 목록을 비트마스크로 변환합니다. 비트 위치는 {@link Category#ordinal()}입니다.
+     */
+    public static int mask(Collection<Category> categories) {
+        int mask = 0;
+        for (Category category : categories) {
+            mask |= 1 << category.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * 지금 상태의 불변 스냅숏을 만듭니다. 페이지 목록과 조합별 답 목록만 복사하고 페이지는 공유합니다.
+     */
+    public synchronized View snapshot() {
+        Arrays.fill(owned, false);
+        namesOwned = false;
+        return new View(pages.clone(), brandNames, brandCount, List.copyOf(answers),
+                rankVersions.clone(), presentCategories, rankedPrefixes);
+    }
+
+    /**
+     * {@link ProductColumns}의 현재 상품으로 행렬과 모든 조합의 답을 다시 만듭니다.
+     */
+    public synchronized void reload() {
+        ordinals.clear();
+        freeOrdinals.clear();
+        clear();
+        productColumns.forEach((brandId, brandName, category, price) -> {
+            int ordinal = ordinalOf(brandId, brandName);
+            int[] page = pages[ordinal >> PAGE_SHIFT];
+            int cell = base(ordinal) + category.ordinal();
+            page[cell] = Math.min(page[cell], price);
+        });
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            recompute(mask);
+            publish(mask);
+        }
+        publishPresence();
+    }
+
+    public synchronized void add(Long brandId, String brandName, Category category, int price) {
+        int ordinal = ordinalOf(brandId, brandName);
+        publishPresence();
+        int cell = base(ordinal) + category.ordinal();
+        if (price < pages[ordinal >> PAGE_SHIFT][cell]) {
+            int[] previous = row(ordinal);
+            writablePage(ordinal)[cell] = price;
+            updateRow(ordinal, previous);
+        }
+    }
+
+    /**
+     * 여러 상품을 반영합니다. 바뀐 브랜드마다 행을 한 번씩 비교하고, 답이 바뀐 조합은 마지막에 한 번만 새로 만듭니다.
+     */
+    public synchronized void addAll(List<ProductPriceView> products) {
+        // Each touched brand's row from before the batch.
+        Map<Integer, int[]> previousRows = new HashMap<>();
+        for (ProductPriceView product : products) {
+            int ordinal = ordinalOf(product.brandId(), product.brandName());
+            int cell = base(ordinal) + product.category().ordinal();
+            if (product.price() < pages[ordinal >> PAGE_SHIFT][cell]) {
+                previousRows.computeIfAbsent(ordinal, this::row);
+                writablePage(ordinal)[cell] = product.price();
+            }
+        }
+        publishPresence();
+        // Adds only lower totals, so no best brand is dropped and the rows can be compared one
+        // brand at a time against the others' new values.
+        boolean[] changed = new boolean[MASK_COUNT];
+        previousRows.forEach((ordinal, previous) -> updateRow(ordinal, previous, changed));
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            if (changed[mask]) {
+                publish(mask);
+            }
+        }
+    }
+
+    public synchronized void remove(Long brandId, Category category, int price) {
+        Integer ordinal = ordinals.get(brandId);
+        if (ordinal == null) {
+            return;
+        }
+        publishPresence();
+        int cell = base(ordinal) + category.ordinal();
+        int current = pages[ordinal >> PAGE_SHIFT][cell];
+        if (price != current) {
+            return;
+        }
+        int min = productColumns.minPrice(brandId, category);
+        if (min != current) {
+            int[] previous = row(ordinal);
+            writablePage(ordinal)[cell] = min;
+            updateRow(ordinal, previous);
+        }
+    }
+
+    public synchronized void renameBrand(Long brandId, String brandName) {
+        Integer ordinal = ordinals.get(brandId);
+        if (ordinal == null) {
+            return;
+        }
+        writableNames()[ordinal] = brandName;
+        int[] page = pages[ordinal >> PAGE_SHIFT];
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            if (total(page, base(ordinal), mask) != MISSING) {
+                rankVersions[mask]++;
+            }
+            if (contains(bestOrdinals[mask], ordinal)) {
+                publish(mask);
+            }
+        }
+    }
+
+    public synchronized void removeBrand(Long brandId) {
+        Integer ordinal = ordinals.remove(brandId);
+        if (ordinal == null) {
+            return;
+        }
+        publishPresence();
+
+        int[] previous = row(ordinal);
+        Arrays.fill(writablePage(ordinal), base(ordinal), base(ordinal) + COLUMNS, MISSING);
+        updateRow(ordinal, previous);
+        writableNames()[ordinal] = null;
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * 한 브랜드의 행이 바뀐 뒤, 그 브랜드의 총액이 달라진 조합의 답만 갱신합니다.
+     */
+    private void updateRow(int ordinal, int[] previous) {
+        boolean[] changed = new boolean[MASK_COUNT];
+        updateRow(ordinal, previous, changed);
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            if (changed[mask]) {
+                publish(mask);
+            }
+        }
+    }
+
+    /**
+     * {@link #updateRow(int, int[])}와 같지만 답을 새로 만들지 않고, 답이 바뀐 조합을 {@code changed}에 표시합니다.
+     */
+    private void updateRow(int ordinal, int[] previous, boolean[] changed) {
+        int[] page = pages[ordinal >> PAGE_SHIFT];
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            int before = total(previous, 0, mask);
+            int after = total(page, base(ordinal), mask);
+            if (before == after) {
+                continue;
+            }
+            rankVersions[mask]++;
+            int best = bestTotals[mask];
+            boolean wasBest = before != MISSING && before == best;
+
+            if (after < best) {
+                bestTotals[mask] = after;
+                bestOrdinals[mask] = new int[]{ordinal};
+            } else if (after == best && after != MISSING) {
+                if (!wasBest) {
+                    bestOrdinals[mask] = append(bestOrdinals[mask], ordinal);
+                }
+            } else if (wasBest) {
+                bestOrdinals[mask] = without(bestOrdinals[mask], ordinal);
+                if (bestOrdinals[mask].length == 0) {
+                    recompute(mask);
+                }
+            } else {
+                continue;
+            }
+            changed[mask] = true;
+        }
+    }
+
+    private void recompute(int mask) {
+        int best = MISSING;
+        int[] brands = NO_BRANDS;
+        // Free ordinals hold MISSING in every column, so they never have a total.
+        for (int ordinal = 0; ordinal < brandCount; ordinal++) {
+            int total = total(pages[ordinal >> PAGE_SHIFT], base(ordinal), mask);
+            if (total < best) {
+                best = total;
+                brands = new int[]{ordinal};
+            } else if (total == best && total != MISSING) {
+                brands = append(brands, ordinal);
+            }
+        }
+        bestTotals[mask] = best;
+        bestOrdinals[mask] = brands;
+    }
+
+    private void publish(int mask) {
+        List<CheapestBrandResponse.BrandTotal> brandTotals = new ArrayList<>(
+                bestOrdinals[mask].length);
+        for (int ordinal : bestOrdinals[mask]) {
+            brandTotals.add(new CheapestBrandResponse.BrandTotal(brandNames[ordinal],
+                    categoryPrices(pages[ordinal >> PAGE_SHIFT], base(ordinal), mask),
+                    bestTotals[mask]));
+        }
+        brandTotals.sort(Comparator.comparing(CheapestBrandResponse.BrandTotal::brand));
+        answers.set(mask, List.copyOf(brandTotals));
+    }
+
+    private static long key(int total, int ordinal) {
+        return (long) total << 32 | ordinal;
+    }
+
+    private static int keyTotal(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int keyOrdinal(long key) {
+        return (int) key;
+    }
+
+    private static RankedBrandsResponse page(Ranking ranking, int offset, int limit) {
+        List<RankedBrandsResponse.RankedBrand> brands = ranking.brands();
+        int from = Math.min(offset - ranking.from(), brands.size());
+        int to = Math.min(offset + limit - ranking.from(), brands.size());
+        return new RankedBrandsResponse(offset, limit, ranking.eligible(),
+                List.copyOf(brands.subList(from, to)));
+    }
+
+    private static int[] columns(int mask) {
+        int[] columns = new int[Integer.bitCount(mask)];
+        for (int column = 0, i = 0; column < COLUMNS; column++) {
+            if ((mask & (1 << column)) != 0) {
+                columns[i++] = column;
+            }
+        }
+        return columns;
+    }
+
+    private static List<CheapestBrandResponse.CategoryPrice> categoryPrices(int[] prices, int base,
+            int mask) {
+        List<CheapestBrandResponse.CategoryPrice> categoryPrices = new ArrayList<>();
+        for (Category category : CATEGORIES) {
+            if ((mask & (1 << category.ordinal())) != 0) {
+                categoryPrices.add(new CheapestBrandResponse.CategoryPrice(category.name(),
+                        prices[base + category.ordinal()]));
+            }
+        }
+        return List.copyOf(categoryPrices);
+    }
+
+    private void publishPresence() {
+        int present = 0;
+        for (int column = 0; column < CATEGORIES.length; column++) {
+            if (productColumns.productCount(CATEGORIES[column]) > 0) {
+                present |= 1 << column;
+            }
+        }
+        presentCategories = present;
+    }
+
+    private static int total(int[] prices, int base, int mask) {
+        int total = 0;
+        for (int column = 0; column < COLUMNS; column++) {
+            if ((mask & (1 << column)) == 0) {
+                continue;
+            }
+            if (prices[base + column] == MISSING) {
+                return MISSING;
+            }
+            total += prices[base + column];
+        }
+        return total;
+    }
+
+    private static int total(int[] prices, int base, int[] columns) {
+        int total = 0;
+        for (int column : columns) {
+            int price = prices[base + column];
+            if (price == MISSING) {
+                return MISSING;
+            }
+            total += price;
+        }
+        return total;
+    }
+
+    private static int base(int ordinal) {
+        return (ordinal & PAGE_MASK) * COLUMNS;
+    }
+
+    private int[] row(int ordinal) {
+        return Arrays.copyOfRange(pages[ordinal >> PAGE_SHIFT], base(ordinal),
+                base(ordinal) + COLUMNS);
+    }
+
+    private int[] writablePage(int ordinal) {
+        int page = ordinal >> PAGE_SHIFT;
+        if (!owned[page]) {
+            pages[page] = pages[page].clone();
+            owned[page] = true;
+        }
+        return pages[page];
+    }
+
+    private String[] writableNames() {
+        if (!namesOwned) {
+            brandNames = brandNames.clone();
+            namesOwned = true;
+        }
+        return brandNames;
+    }
+
+    private int ordinalOf(Long brandId, String brandName) {
+        Integer existing = ordinals.get(brandId);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = freeOrdinals.isEmpty() ? brandCount++ : freeOrdinals.pop();
+        int page = ordinal >> PAGE_SHIFT;
+        if (page == pages.length) {
+            pages = Arrays.copyOf(pages, page * 2);
+            owned = Arrays.copyOf(owned, page * 2);
+        }
+        if (pages[page] == null) {
+            pages[page] = new int[PAGE_BRANDS * COLUMNS];
+            owned[page] = true;
+        }
+        if (ordinal >= brandNames.length) {
+            brandNames = Arrays.copyOf(brandNames, brandNames.length * 2);
+            namesOwned = true;
+        }
+        Arrays.fill(writablePage(ordinal), base(ordinal), base(ordinal) + COLUMNS, MISSING);
+        writableNames()[ordinal] = brandName;
+        ordinals.put(brandId, ordinal);
+        return ordinal;
+    }
+
+    private void clear() {
+        brandNames = new String[16];
+        namesOwned = true;
+        pages = new int[1][];
+        owned = new boolean[1];
+        brandCount = 0;
+        Arrays.fill(bestTotals, MISSING);
+        for (int mask = 0; mask < MASK_COUNT; mask++) {
+            bestOrdinals[mask] = NO_BRANDS;
+            answers.set(mask, List.of());
+            rankVersions[mask]++;
+        }
+        presentCategories = 0;
+    }
+
+    /**
+     * 한 시점의 행렬과 조합별 답입니다. 만든 뒤에는 바뀌지 않으므로 락 없이 여러 스레드가 함께 읽습니다.
+     */
+    public static final class View {
+
+        private final int[][] pages;
+        private final String[] brandNames;
+        private final int brandCount;
+        private final List<List<CheapestBrandResponse.BrandTotal>> answers;
+        private final long[] rankVersions;
+        private final int presentCategories;
+        private final AtomicReferenceArray<Ranking> rankedPrefixes;
+
+        private View(int[][] pages, String[] brandNames, int brandCount,
+                List<List<CheapestBrandResponse.BrandTotal>> answers, long[] rankVersions,
+                int presentCategories, AtomicReferenceArray<Ranking> rankedPrefixes) {
+            this.pages = pages;
+            this.brandNames = brandNames;
+            this.brandCount = brandCount;
+            this.answers = answers;
+            this.rankVersions = rankVersions;
+            this.presentCategories = presentCategories;
+            this.rankedPrefixes = rankedPrefixes;
+        }
+
+        /**
+         * 주어진 카테고리 조합을 모두 가진 브랜드 중 총액이 가장 낮은 브랜드들을 반환합니다.
+         */
+        public List<CheapestBrandResponse.BrandTotal> cheapestBrands(int mask) {
+            return answers.get(mask);
+        }
+
+        public boolean hasProducts() {
+            return presentCategories != 0;
+        }
+
+        /**
+         * 주어진 조합의 카테고리 중 하나라도 상품이 있는지 확인합니다.
+         */
+        public boolean hasProductsIn(int mask) {
+            return (presentCategories & mask) != 0;
+        }
+
+        /**
+         * 주어진 조합을 모두 가진 브랜드를 총액, 브랜드 이름 순으로 세웠을 때 {@code offset}번째부터 최대
+         * {@code limit}개를 반환합니다.
+         * <p>
+         * 전체 브랜드를 정렬하지 않고, 크기가 {@code offset + limit}인 최대 힙에 지금까지의 상위 브랜드만 남깁니다.
+         * {@value BrandPriceMatrix#RANKED_PREFIX}위 안쪽의 페이지는 조합마다 저장해 둔 순위에서 잘라 반환합니다.
+         */
+        public RankedBrandsResponse rankedBrands(int mask, int offset, int limit) {
+            int depth = offset + limit;
+            if (depth > RANKED_PREFIX) {
+                return page(rank(mask, depth, offset, -1), offset, limit);
+            }
+            long version = rankVersions[mask];
+            Ranking prefix = rankedPrefixes.get(mask);
+            if (prefix == null || prefix.version() != version) {
+                prefix = rank(mask, RANKED_PREFIX, 0, version);
+                rankedPrefixes.set(mask, prefix);
+            }
+            return page(prefix, offset, limit);
+        }
+
+        private Ranking rank(int mask, int depth, int from, long version) {
+            String[] names = brandNames;
+            int[] columns = columns(mask);
+
+            TopKeys top = new TopKeys(Math.min(depth, brandCount));
+            int eligible = 0;
+            for (int ordinal = 0; ordinal < brandCount; ordinal++) {
+                int total = total(pages[ordinal >> PAGE_SHIFT], base(ordinal), columns);
+                if (total != MISSING && names[ordinal] != null) {
+                    eligible++;
+                    top.offer(key(total, ordinal));
+                }
+            }
+            long[] keys = top.drainInOrder();
+            Comparator<Integer> byName = Comparator.comparing(ordinal -> names[ordinal],
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            long[] ties = top.ties();
+            if (ties.length > 0) {
+                // The heap broke ties on the last kept total by ordinal; re-pick them by name.
+                int boundary = keyTotal(keys[keys.length - 1]);
+                int start = keys.length - 1;
+                while (start > 0 && keyTotal(keys[start - 1]) == boundary) {
+                    start--;
+                }
+                List<Integer> group = new ArrayList<>(keys.length - start + ties.length);
+                for (int i = start; i < keys.length; i++) {
+                    group.add(keyOrdinal(keys[i]));
+                }
+                for (long tie : ties) {
+                    group.add(keyOrdinal(tie));
+                }
+                group.sort(byName);
+                for (int i = start; i < keys.length; i++) {
+                    keys[i] = key(boundary, group.get(i - start));
+                }
+            }
+
+            // Only ranks from `from` on are materialized; the rest only served to find them.
+            List<RankedBrandsResponse.RankedBrand> brands = new ArrayList<>(
+                    Math.max(keys.length - from, 0));
+            List<Integer> run = new ArrayList<>();
+            for (int start = 0, end; start < keys.length; start = end) {
+                int total = keyTotal(keys[start]);
+                end = start + 1;
+                while (end < keys.length && keyTotal(keys[end]) == total) {
+                    end++;
+                }
+                if (end <= from) {
+                    continue;
+                }
+                run.clear();
+                for (int i = start; i < end; i++) {
+                    run.add(keyOrdinal(keys[i]));
+                }
+                run.sort(byName);
+                for (int i = Math.max(start, from); i < end; i++) {
+                    int ordinal = run.get(i - start);
+                    brands.add(new RankedBrandsResponse.RankedBrand(i + 1, names[ordinal],
+                            categoryPrices(pages[ordinal >> PAGE_SHIFT], base(ordinal), mask),
+                            total));
+                }
+            }
+            return new Ranking(version, from, eligible, List.copyOf(brands));
+        }
+    }
+
+    /**
+     * 한 조합의 {@code from + 1}위부터 최대 {@code depth}위까지의 순위입니다. {@code version}이 -1이면 저장하지 않는
+     * 결과입니다.
+     */
+    private record Ranking(long version, int from, int eligible,
+                           List<RankedBrandsResponse.RankedBrand> brands) {
+
+    }
+
+    /**
+     * (총액, ordinal) 키가 가장 작은 브랜드를 최대 {@code capacity}개 남기는 최대 힙입니다. 루트가 남긴 키 중 가장 큰
+     * 키이므로, 대부분의 브랜드는 루트와 한 번 비교하고 버려집니다.
+     * <p>
+     * 루트와 총액이 같아 버려지거나 밀려난 키는 따로 모아 둡니다. 마지막 총액의 동점 브랜드를 이름순으로 다시 고를 때
+     * 행렬을 다시 훑지 않기 위해서입니다.
+     */
+    private static final class TopKeys {
+
+        private final long[] heap;
+        private int size;
+        // Keys dropped while tied with the root's total; cleared whenever that total falls.
+        private long[] ties = new long[8];
+        private int tieCount;
+
+        TopKeys(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(long key) {
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (size > 0) {
+                long root = heap[0];
+                if (key < root) {
+                    heap[0] = key;
+                    siftDown(0);
+                    if (keyTotal(heap[0]) < keyTotal(root)) {
+                        tieCount = 0;
+                    } else {
+                        tie(root);
+                    }
+                } else if (keyTotal(key) == keyTotal(root)) {
+                    tie(key);
+                }
+            }
+        }
+
+        /**
+         * 남긴 키 중 가장 큰 총액과 같아 버려진 키들입니다.
+         */
+        long[] ties() {
+            return Arrays.copyOf(ties, tieCount);
+        }
+
+        private void tie(long key) {
+            if (tieCount == ties.length) {
+                ties = Arrays.copyOf(ties, tieCount * 2);
+            }
+            ties[tieCount++] = key;
+        }
+
+        /**
+         * 힙을 비우면서 남긴 키를 오름차순으로 반환합니다.
+         */
+        long[] drainInOrder() {
+            int count = size;
+            while (size > 1) {
+                long max = heap[0];
+                heap[0] = heap[--size];
+                heap[size] = max;
+                siftDown(0);
+            }
+            size = 0;
+            return Arrays.copyOf(heap, count);
+        }
+
+        private void siftUp(int i) {
+            long key = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] >= key) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = key;
+        }
+
+        private void siftDown(int i) {
+            long key = heap[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] > heap[child]) {
+                    child++;
+                }
+                if (key >= heap[child]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = key;
+        }
+    }
+
+    private static boolean contains(int[] brands, int ordinal) {
+        for (int brand : brands) {
+            if (brand == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] append(int[] brands, int ordinal) {
+        int[] next = Arrays.copyOf(brands, brands.length + 1);
+        next[brands.length] = ordinal;
+        return next;
+    }
+
+    private static int[] without(int[] brands, int ordinal) {
+        return Arrays.stream(brands).filter(brand -> brand != ordinal).toArray();
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({PriceRangeCacheProperties.class, RenderedResponseProperties.class,
+        CatalogIndexProperties.class})
+public class CatalogCacheConfig {
+}
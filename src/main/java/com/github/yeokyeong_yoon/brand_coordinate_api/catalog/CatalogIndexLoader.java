@@ -0,0 +1,92 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초기 데이터 적재가 끝난 뒤 DB의 상품으로 메모리 인덱스를 채웁니다.
+ * <p>
+ * 상품 행은 엔티티나 DTO를 거치지 않고 {@link ProductColumns}의 원시 배열로 바로 읽어 들이고, 나머지 인덱스는 그
+ * 배열에서 만듭니다. 적재가 끝나면 {@link CatalogVersion}이 새 스냅숏을 교체합니다.
+ * <p>
+ * 기본값은 웹 서버가 요청을 받기 전에 적재합니다. {@code catalog.index.background-load}를 켜면 애플리케이션이 뜬 뒤
+ * 별도 스레드에서 적재하고, 그동안 readiness 상태를 {@code REFUSING_TRAFFIC}으로 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogIndexLoader implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductColumns productColumns;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandPriceMatrix brandPriceMatrix;
+    private final CatalogVersion catalogVersion;
+    private final CatalogLoadGate catalogLoadGate;
+    private final CatalogIndexProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isBackgroundLoad()) {
+            load();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        if (!properties.isBackgroundLoad()) {
+            return;
+        }
+        // Spring Boot marks the application ready just before this event; hold traffic until loaded.
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        Thread loader = new Thread(() -> {
+            try {
+                load();
+                AvailabilityChangeEvent.publish(eventPublisher, this,
+                        ReadinessState.ACCEPTING_TRAFFIC);
+            } catch (RuntimeException e) {
+                log.error("Failed to load catalog index; index-backed endpoints stay unavailable",
+                        e);
+            }
+        }, "catalog-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public void load() {
+        catalogLoadGate.load(() -> catalogVersion.update(() -> {
+            long started = System.nanoTime();
+            Integer expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product",
+                    Integer.class);
+            productColumns.reload(expected == null ? 0 : expected, loader -> {
+                jdbcTemplate.query("SELECT id, name FROM brand",
+                        rs -> {
+                            loader.brand(rs.getLong(1), rs.getString(2));
+                        });
+                jdbcTemplate.query("SELECT brand_id, category, price FROM product",
+                        rs -> {
+                            loader.product(rs.getLong(1), Category.valueOf(rs.getString(2)),
+                                    rs.getInt(3));
+                        });
+            });
+            categoryPriceIndex.reload();
+            brandPriceMatrix.reload();
+            int products = 0;
+            for (Category category : Category.values()) {
+                products += productColumns.productCount(category);
+            }
+            log.info("Loaded {} products into catalog index in {} ms", products,
+                    (System.nanoTime() - started) / 1_000_000);
+        }));
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메모리 인덱스를 언제 적재할지 정하는 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.index")
+public class CatalogIndexProperties {
+
+    /**
+     * 켜면 애플리케이션이 뜬 뒤 별도 스레드에서 인덱스를 적재합니다. 기동 시간이 카탈로그 크기와 무관해지고,
+     * 적재가 끝날 때까지 인덱스를 쓰는 요청은 503으로 거절됩니다.
+     */
+    private boolean backgroundLoad = false;
+}
@@ -0,0 +1,55 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 인덱스를 적재하는 동안 인덱스를 읽는 요청과 운영자 쓰기를 막습니다.
+ * <p>
+ * 쓰기는 트랜잭션과 커밋 후 인덱스 갱신이 끝날 때까지 읽기 잠금을 잡고, 적재는 쓰기 잠금을 잡습니다.
+ * 따라서 적재가 읽은 DB 상태와 인덱스에 반영되는 쓰기가 겹치지 않습니다.
+ */
+@Component
+public class CatalogLoadGate {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 적재가 끝났고 진행 중인 적재가 없으면 쓰기 허가를 얻습니다. 허가를 얻었다면 {@link #endWrite()}로 돌려줘야 합니다.
+     */
+    public boolean tryBeginWrite() {
+        if (!loaded || !lock.readLock().tryLock()) {
+            return false;
+        }
+        if (!loaded) {
+            lock.readLock().unlock();
+            return false;
+        }
+        return true;
+    }
+
+    public void endWrite() {
+        lock.readLock().unlock();
+    }
+
+    /**
+     * 새 쓰기를 거절하고, 진행 중인 쓰기가 끝나기를 기다린 뒤 {@code loader}를 실행합니다. 실패하면 적재되지 않은 상태로 남습니다.
+     */
+    public void load(Runnable loader) {
+        // Close the gate before waiting so that a stream of writes cannot starve the loader.
+        loaded = false;
+        lock.writeLock().lock();
+        try {
+            loader.run();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 상태를 게이지로 내보냅니다. 값은 메모리 인덱스에서 읽으므로 수집할 때 DB를 조회하지 않습니다.
+ */
+@Component
+public class CatalogMetrics implements MeterBinder {
+
+    private final CatalogVersion catalogVersion;
+
+    public CatalogMetrics(CatalogVersion catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Category category : Category.values()) {
+            Gauge.builder("catalog.products", catalogVersion,
+                            version -> version.snapshot().products().productCount(category))
+                    .description("카테고리별 상품 수")
+                    .tag("category", category.name())
+                    .register(registry);
+        }
+        Gauge.builder("catalog.version", catalogVersion, CatalogVersion::current)
+                .description("커밋된 운영자 쓰기마다 증가하는 카탈로그 버전")
+                .register(registry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+
+/**
+ * 한 카탈로그 버전의 메모리 인덱스 전체입니다. 조회 요청은 하나를 잡아 끝까지 쓰므로, 한 응답의 모든 값과 ETag가 같은
+ * 버전을 가리킵니다.
+ *
+ * @param version                ETag에 쓰이는 카탈로그 버전
+ * @param products               상품 열
+ * @param lowest                 카테고리별 최저가
+ * @param brands                 브랜드 x 카테고리 최저가 행렬
+ * @param priceRangeGenerations  카테고리별 가격 범위 캐시 세대. 이 세대로 저장된 캐시 항목만 이 버전의 결과입니다.
+ */
+public record CatalogSnapshot(long version, ProductColumns.View products,
+                              CategoryPriceIndex.View lowest, BrandPriceMatrix.View brands,
+                              long[] priceRangeGenerations) {
+
+    public long priceRangeGeneration(Category category) {
+        return priceRangeGenerations[category.ordinal()];
+    }
+}
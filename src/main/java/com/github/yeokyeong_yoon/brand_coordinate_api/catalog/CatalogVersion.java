@@ -0,0 +1,124 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회가 읽는 {@link CatalogSnapshot}을 들고, 커밋된 카탈로그 쓰기마다 버전을 1씩 올려 새 스냅숏으로 교체합니다.
+ * 버전은 조회 API의 ETag로 쓰입니다.
+ * <p>
+ * 쓰기 후처리는 메모리 인덱스 갱신을 {@link #update(Runnable)}에 넘깁니다. 갱신이 모두 끝난 뒤 각 인덱스의 스냅숏을
+ * 모아 한 번에 교체하므로, 조회는 쓰기 도중의 상태나 인덱스마다 다른 버전을 보지 않습니다. 스냅숏은 바뀌지 않은 부분을
+ * 이전 스냅숏과 공유하므로 교체 비용은 카탈로그 크기가 아니라 바뀐 부분에 비례합니다.
+ * ETag에는 기동 시각도 넣어, 재시작으로 버전이 0부터 다시 시작해도 이전 프로세스의 ETag와 겹치지 않게 합니다.
+ */
+@Component
+public class CatalogVersion {
+
+    private static final ThreadLocal<List<Runnable>> AFTER_UPDATE = new ThreadLocal<>();
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ProductColumns productColumns;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandPriceMatrix brandPriceMatrix;
+    private final PriceRangeCache priceRangeCache;
+
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogVersion(ProductColumns productColumns, CategoryPriceIndex categoryPriceIndex,
+            BrandPriceMatrix brandPriceMatrix, PriceRangeCache priceRangeCache) {
+        this.productColumns = productColumns;
+        this.categoryPriceIndex = categoryPriceIndex;
+        this.brandPriceMatrix = brandPriceMatrix;
+        this.priceRangeCache = priceRangeCache;
+        this.snapshot = capture(0);
+    }
+
+    /**
+     * 마지막으로 교체된 스냅숏입니다. 한 요청 안에서는 한 번만 읽어 그대로 써야 합니다.
+     */
+    public CatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public long current() {
+        return snapshot.version();
+    }
+
+    /**
+     * {@code changes}로 메모리 인덱스를 고친 뒤 다음 버전의 스냅숏을 교체합니다. 쓰기끼리는 직렬화됩니다.
+     * {@code changes}가 실패해도 이미 반영된 변경이 조회에 보이도록 스냅숏은 교체합니다.
+     * {@code changes}가 {@link #afterUpdate(Runnable)}로 넘긴 작업은 다른 쓰기가 들어올 수 있게 된 뒤에 실행합니다.
+     */
+    public void update(Runnable changes) {
+        List<Runnable> outer = AFTER_UPDATE.get();
+        List<Runnable> actions = outer != null ? outer : new ArrayList<>();
+        if (outer == null) {
+            AFTER_UPDATE.set(actions);
+        }
+        try {
+            synchronized (this) {
+                try {
+                    changes.run();
+                } finally {
+                    snapshot = capture(snapshot.version() + 1);
+                }
+            }
+        } finally {
+            if (outer == null) {
+                AFTER_UPDATE.remove();
+            }
+        }
+        // A nested update leaves its actions to the outermost one, which still holds the monitor.
+        if (outer == null) {
+            actions.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * 현재 스레드의 {@link #update(Runnable)}가 끝난 뒤에 작업을 실행합니다. 갱신 중이 아니라면 즉시 실행합니다.
+     * 기다릴 수 있는 작업을 갱신 안에서 하면 그동안 모든 카탈로그 쓰기가 멈추므로, 그런 작업은 여기로 넘깁니다.
+     */
+    public static void afterUpdate(Runnable action) {
+        List<Runnable> actions = AFTER_UPDATE.get();
+        if (actions == null) {
+            action.run();
+            return;
+        }
+        actions.add(action);
+    }
+
+    public void increment() {
+        update(() -> {
+        });
+    }
+
+    /**
+     * 이 프로세스의 기동 시각입니다. 재시작 전에 받은 버전과 구분할 때 버전과 함께 씁니다.
+     */
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * 현재 버전의 강한 ETag 값입니다(따옴표 포함).
+     */
+    public String etag() {
+        return etag(current());
+    }
+
+    /**
+     * 주어진 버전의 강한 ETag 값입니다(따옴표 포함).
+     */
+    public String etag(long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    private CatalogSnapshot capture(long version) {
+        return new CatalogSnapshot(version, productColumns.snapshot(),
+                categoryPriceIndex.snapshot(), brandPriceMatrix.snapshot(),
+                priceRangeCache.generations());
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryLowestPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.NotFoundException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 최저가와 그 가격을 가진 브랜드 목록을 메모리에 유지하는 인덱스입니다.
+ * <p>
+ * 운영자 쓰기가 커밋된 뒤에 갱신되며, 조회는 DB 없이 카테고리 수에 비례하는 비용으로 처리됩니다.
+ * 쓰기는 직렬화되고, 조회는 {@link #snapshot()}이 돌려주는 불변 {@link View}를 읽기 때문에 잠금이 필요 없습니다.
+ * <p>
+ * 상품별 가격은 {@link ProductColumns}에만 있고, 여기에는 카테고리마다 최저가와 그 가격의 브랜드만 둡니다.
+ * 최저가 상품이 지워지면 그 카테고리만 {@link ProductColumns}에서 다시 셉니다. 서비스는 {@link ProductColumns}를
+ * 먼저 갱신한 뒤 이 인덱스를 갱신합니다.
+ */
+@Component
+public class CategoryPriceIndex {
+
+    private static final List<Category> CATEGORIES_BY_NAME = Arrays.stream(Category.values())
+            .sorted(Comparator.comparing(Category::name))
+            .toList();
+
+    private final ProductColumns productColumns;
+    private final int[] minPrices = new int[Category.values().length];
+    // category -> brandId -> brand name, for the brands with a product at the category's minimum
+    private final Map<Category, Map<Long, String>> lowestBrands = new EnumMap<>(Category.class);
+
+    private volatile View published = new View(new EnumMap<>(Category.class), false);
+
+    public CategoryPriceIndex(ProductColumns productColumns) {
+        this.productColumns = productColumns;
+        clear();
+    }
+
+    /**
+     * 마지막 쓰기까지 반영된 불변 결과입니다. 다음 쓰기는 이 결과를 바꾸지 않고 새 결과로 교체합니다.
+     */
+    public View snapshot() {
+        return published;
+    }
+
+    /**
+     * DB에서 한 번 이상 적재되었는지 여부입니다. 적재 전에는 조회를 DB로 보내야 합니다.
+     */
+    public boolean isLoaded() {
+        return published.loaded();
+    }
+
+    /**
+     * 카테고리별 최저가 브랜드와 총액을 반환합니다.
+     */
+    public CategoryLowestPriceResponse lowestPrices() {
+        return published.lowestPrices();
+    }
+
+    /**
+     * {@link ProductColumns}의 현재 상품으로 인덱스를 다시 만듭니다.
+     */
+    public synchronized void reload() {
+        clear();
+        productColumns.forEach((brandId, brandName, category, price) -> offer(brandId, brandName,
+                category, price));
+        publish(true);
+    }
+
+    public synchronized void add(Long brandId, String brandName, Category category, int price) {
+        offer(brandId, brandName, category, price);
+        publish(published.loaded());
+    }
+
+    /**
+     * 여러 상품을 반영한 뒤 결과를 한 번만 새로 만듭니다.
+     */
+    public synchronized void addAll(List<ProductPriceView> products) {
+        for (ProductPriceView product : products) {
+            offer(product.brandId(), product.brandName(), product.category(), product.price());
+        }
+        publish(published.loaded());
+    }
+
+    public synchronized void remove(Long brandId, Category category, int price) {
+        if (price == minPrices[category.ordinal()]
+                && lowestBrands.get(category).containsKey(brandId)) {
+            rescan(category);
+            publish(published.loaded());
+        }
+    }
+
+    public synchronized void renameBrand(Long brandId, String brandName) {
+        boolean listed = false;
+        for (Map<Long, String> brands : lowestBrands.values()) {
+            listed |= brands.replace(brandId, brandName) != null;
+        }
+        if (listed) {
+            publish(published.loaded());
+        }
+    }
+
+    public synchronized void removeBrand(Long brandId) {
+        boolean listed = false;
+        for (Category category : Category.values()) {
+            if (lowestBrands.get(category).containsKey(brandId)) {
+                rescan(category);
+                listed = true;
+            }
+        }
+        if (listed) {
+            publish(published.loaded());
+        }
+    }
+
+    private void offer(Long brandId, String brandName, Category category, int price) {
+        int min = minPrices[category.ordinal()];
+        if (price < min) {
+            minPrices[category.ordinal()] = price;
+            lowestBrands.get(category).clear();
+        }
+        if (price <= min) {
+            lowestBrands.get(category).put(brandId, brandName);
+        }
+    }
+
+    private void rescan(Category category) {
+        ProductColumns.Lowest rescanned = productColumns.lowest(category);
+        minPrices[category.ordinal()] = rescanned.price();
+        lowestBrands.put(category, new HashMap<>(rescanned.brands()));
+    }
+
+    private void clear() {
+        Arrays.fill(minPrices, ProductColumns.MISSING);
+        for (Category category : Category.values()) {
+            lowestBrands.put(category, new HashMap<>());
+        }
+    }
+
+    private void publish(boolean loaded) {
+        Map<Category, CategoryLowestPriceResponse.CategoryPrice> next = new EnumMap<>(
+                Category.class);
+        for (Map.Entry<Category, Map<Long, String>> entry : lowestBrands.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            int price = minPrices[entry.getKey().ordinal()];
+            List<CategoryLowestPriceResponse.CategoryPrice.BrandPrice> brandPrices = entry.getValue()
+                    .values().stream()
+                    .map(brandName -> new CategoryLowestPriceResponse.CategoryPrice.BrandPrice(
+                            brandName, price))
+                    .sorted(Comparator.comparing(
+                            CategoryLowestPriceResponse.CategoryPrice.BrandPrice::brand))
+                    .toList();
+            next.put(entry.getKey(), new CategoryLowestPriceResponse.CategoryPrice(
+                    entry.getKey().name(), brandPrices));
+        }
+        published = new View(next, loaded);
+    }
+
+    /**
+     * 한 시점의 카테고리별 최저가입니다.
+     */
+    public record View(Map<Category, CategoryLowestPriceResponse.CategoryPrice> lowest,
+            boolean loaded) {
+
+        /**
+         * 카테고리별 최저가 브랜드와 총액을 반환합니다.
+         */
+        public CategoryLowestPriceResponse lowestPrices() {
+            List<CategoryLowestPriceResponse.CategoryPrice> categoryPrices = new ArrayList<>(
+                    CATEGORIES_BY_NAME.size());
+            int totalPrice = 0;
+
+            for (Category category : CATEGORIES_BY_NAME) {
+                CategoryLowestPriceResponse.CategoryPrice categoryPrice = lowest.get(category);
+                if (categoryPrice == null) {
+                    throw new NotFoundException("해당 카테고리의 상품이 없습니다: " + category);
+                }
+                categoryPrices.add(categoryPrice);
+                totalPrice += categoryPrice.brandPrices().get(0).price();
+            }
+
+            return new CategoryLowestPriceResponse(categoryPrices, totalPrice);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리별 가격 범위(최저가/최고가 브랜드) 조회 결과를 담아 두는 크기와 TTL이 제한된 캐시입니다.
+ * <p>
+ * 운영자 쓰기가 커밋되면 서비스가 바뀐 카테고리와 가격을 알려 주고, 캐시는 그 가격이 현재 최저가보다 크고 최고가보다
+ * 작아 결과가 바뀌지 않는 경우를 제외하고 해당 카테고리 항목만 무효화합니다. 적재 중에 무효화가 일어나면 적재한 결과는
+ * 저장하지 않으므로, 커밋 전 상태로 조회한 결과가 캐시에 남지 않습니다.
+ * <p>
+ * 무효화 세대는 {@link CatalogSnapshot}에도 담깁니다. 스냅숏의 세대로 조회하면 그 세대에 저장된 항목만 쓰고 적재한
+ * 결과도 그 세대가 현재일 때만 저장하므로, 이전 스냅숏을 읽는 요청과 새 스냅숏을 읽는 요청이 서로의 결과를 받지 않습니다.
+ */
+@Component
+public class PriceRangeCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<Category, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped on every invalidation; a load only stores its result if the generation is unchanged.
+    private final long[] generations = new long[Category.values().length];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public PriceRangeCache(PriceRangeCacheProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    PriceRangeCache(PriceRangeCacheProperties properties, LongSupplier nanoClock) {
+        if (properties.getMaxEntries() < 1 || properties.getTtl().isNegative()
+                || properties.getTtl().isZero()) {
+            throw new IllegalArgumentException(
+                    "catalog.price-range-cache 설정값은 0보다 커야 합니다.");
+        }
+        this.maxEntries = properties.getMaxEntries();
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없거나 만료되었으면 {@code loader}로 조회해 저장합니다. 조회가 실패하면 저장하지 않습니다.
+     */
+    public CategoryPriceResponse get(Category category, Supplier<CategoryPriceResponse> loader) {
+        return get(category, generation(category), loader);
+    }
+
+    /**
+     * {@code generation} 세대에 저장된 결과만 반환하고, 없으면 {@code loader}로 조회합니다. 조회한 결과는 그 세대가
+     * 아직 현재일 때만 저장합니다.
+     */
+    public CategoryPriceResponse get(Category category, long generation,
+            Supplier<CategoryPriceResponse> loader) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(category);
+        if (entry != null && entry.generation() == generation) {
+            if (now - entry.loadedAt() < ttlNanos) {
+                hits.increment();
+                return entry.response();
+            }
+            if (entries.remove(category, entry)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        CategoryPriceResponse response = loader.get();
+        store(category, generation, new Entry(response, minPrice(response), maxPrice(response),
+                generation, now));
+        return response;
+    }
+
+    /**
+     * 상품이 추가되었음을 알립니다.
+     */
+    public void onProductAdded(Category category, int price) {
+        onPriceWritten(category, price);
+    }
+
+    /**
+     * 상품이 삭제되었음을 알립니다.
+     */
+    public void onProductRemoved(Category category, int price) {
+        onPriceWritten(category, price);
+    }
+
+    /**
+     * 브랜드 이름이 바뀌었음을 알립니다. 이전 이름이 최저가나 최고가 목록에 있는 카테고리만 무효화합니다.
+     */
+    public synchronized void onBrandRenamed(String previousName) {
+        for (Map.Entry<Category, Entry> cached : entries.entrySet()) {
+            if (cached.getValue().lists(previousName)) {
+                invalidate(cached.getKey());
+            }
+        }
+    }
+
+    /**
+     * 모든 항목을 무효화합니다. 캐시된 결과에는 브랜드 ID가 없으므로 브랜드가 삭제되면 이 방법으로 무효화합니다.
+     */
+    public synchronized void invalidateAll() {
+        for (Category category : Category.values()) {
+            invalidate(category);
+        }
+    }
+
+    /**
+     * 카테고리 하나를 무효화합니다. 여러 상품의 가격이 한꺼번에 바뀌었을 때 상품마다 알리는 대신 한 번 부릅니다.
+     */
+    public synchronized void invalidate(Category category) {
+        generations[category.ordinal()]++;
+        if (entries.remove(category) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * 카테고리별 현재 무효화 세대의 복사본입니다.
+     */
+    public synchronized long[] generations() {
+        return generations.clone();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+                entries.size());
+    }
+
+    private synchronized void onPriceWritten(Category category, int price) {
+        Entry entry = entries.get(category);
+        // A price strictly between the cached min and max changes neither end of the range.
+        if (entry != null && price > entry.minPrice() && price < entry.maxPrice()) {
+            return;
+        }
+        invalidate(category);
+    }
+
+    private synchronized long generation(Category category) {
+        return generations[category.ordinal()];
+    }
+
+    private synchronized void store(Category category, long generation, Entry entry) {
+        if (generations[category.ordinal()] != generation) {
+            return;
+        }
+        if (!entries.containsKey(category) && entries.size() >= maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(cached -> cached.getValue().loadedAt()))
+                    .ifPresent(oldest -> {
+                        entries.remove(oldest.getKey());
+                        evictions.increment();
+                    });
+        }
+        entries.put(category, entry);
+    }
+
+    private static int minPrice(CategoryPriceResponse response) {
+        return response.lowestPrices().get(0).price();
+    }
+
+    private static int maxPrice(CategoryPriceResponse response) {
+        return response.highestPrices().get(0).price();
+    }
+
+    private record Entry(CategoryPriceResponse response, int minPrice, int maxPrice,
+                         long generation, long loadedAt) {
+
+        boolean lists(String brand) {
+            return response.lowestPrices().stream().anyMatch(p -> p.brand().equals(brand))
+                    || response.highestPrices().stream().anyMatch(p -> p.brand().equals(brand));
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size) {
+
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 카테고리별 가격 범위 캐시 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.price-range-cache")
+public class PriceRangeCacheProperties {
+
+    /**
+     * 캐시에 둘 최대 카테고리 수입니다. 가득 차면 가장 오래전에 적재한 항목을 내보냅니다.
+     */
+    private int maxEntries = Category.values().length;
+
+    /**
+     * 항목을 적재한 뒤 다시 조회할 때까지의 최대 시간입니다. 애플리케이션을 거치지 않은 DB 변경이 반영되는 한계입니다.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,602 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.PriceRangeResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 모든 상품의 (브랜드, 카테고리, 가격)을 열 단위 원시 배열로 들고 있는 메모리 저장소입니다.
+ * <p>
+ * 상품 한 개는 가격 {@code int}, 브랜드 번호 {@code int}, 카테고리 번호 {@code byte}로 9바이트만 차지하고, 브랜드 이름은
+ * 브랜드마다 한 번만 사전에 둡니다. 조회는 이 배열을 순서대로 훑으며, 다른 인덱스({@link CategoryPriceIndex},
+ * {@link BrandPriceMatrix})는 최저가가 지워졌을 때만 여기서 다시 셉니다. 상품 ID는 두지 않으므로 삭제는 같은
+ * (브랜드, 카테고리, 가격)의 행 하나를 지웁니다. 조회 결과에는 세 값만 쓰이므로 어느 행을 지워도 같습니다.
+ * <p>
+ * 열은 {@value #CHUNK_SIZE}행씩 나눈 조각으로 두고, 조회는 {@link #snapshot()}이 만든 불변 {@link View}로 합니다.
+ * 스냅숏은 조각을 복사하지 않고 공유하며, 쓰기는 스냅숏과 공유하는 조각을 처음 고칠 때만 그 조각을 복사합니다.
+ * 어느 스냅숏도 읽지 않는 뒤쪽 행에 붙이는 추가는 복사하지 않습니다. 쓰기는 {@link CatalogVersion#update}가
+ * 직렬화합니다.
+ * <p>
+ * 쓰기 쪽은 브랜드마다 그 브랜드의 행 번호 목록을 따로 둡니다(상품당 4바이트, 스냅숏에는 들어가지 않음). 상품 삭제,
+ * 브랜드별 가격 변경, 브랜드 삭제와 브랜드 최저가 계산은 전체 행 대신 그 브랜드의 행만 봅니다.
+ */
+@Component
+public class ProductColumns {
+
+    // Above Product.MAX_PRICE, so no real price is ever mistaken for "no product".
+    static final int MISSING = Integer.MAX_VALUE;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int CHUNK_SHIFT = 14;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_BRANDS = 16;
+
+    // Row i is one product (brand, category, price), stored at chunk i >> CHUNK_SHIFT; unordered.
+    private int[][] prices = new int[0][];
+    private int[][] brands = new int[0][];
+    private byte[][] categories = new byte[0][];
+    // Chunks copied since the last snapshot; the others may be shared with published views.
+    private boolean[] owned = new boolean[0];
+    private int size;
+    // Rows below this were visible to some snapshot, so overwriting them needs an owned chunk.
+    private int sharedRows;
+
+    // Brand dictionary: ordinal -> id and name, copied on the first change after a snapshot.
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private long[] brandIds = new long[INITIAL_BRANDS];
+    private String[] brandNames = new String[INITIAL_BRANDS];
+    private boolean dictionaryOwned = true;
+    private int brandCount;
+
+    // Writer-side only: rows of each brand ordinal, unordered. Never shared with snapshots.
+    private int[][] brandRows = new int[INITIAL_BRANDS][];
+    private int[] brandRowCounts = new int[INITIAL_BRANDS];
+
+    private final int[] productCounts = new int[CATEGORIES.length];
+    private boolean loaded;
+
+    /**
+     * 한 행씩 넘겨받아 저장소를 채웁니다. 상품보다 그 브랜드를 먼저 넘겨야 합니다.
+     */
+    public interface Loader {
+
+        void brand(long brandId, String brandName);
+
+        void product(long brandId, Category category, int price);
+    }
+
+    /**
+     * 행마다 호출됩니다.
+     */
+    @FunctionalInterface
+    public interface RowVisitor {
+
+        void visit(long brandId, String brandName, Category category, int price);
+    }
+
+    /**
+     * 한 카테고리의 최저가와 그 가격의 상품을 가진 브랜드들입니다. 상품이 없으면 가격은 {@link #MISSING}입니다.
+     */
+    public record Lowest(int price, Map<Long, String> brands) {
+
+    }
+
+    /**
+     * DB에서 한 번 이상 적재되었는지 여부입니다.
+     */
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    public synchronized int productCount(Category category) {
+        return productCounts[category.ordinal()];
+    }
+
+    /**
+     * 저장소를 비우고 {@code source}가 넘겨주는 행으로 다시 채웁니다. {@code expectedProducts}는 조각 목록의 초기
+     * 크기를 정하는 데만 씁니다.
+     */
+    public synchronized void reload(int expectedProducts, Consumer<Loader> source) {
+        clear((Math.max(expectedProducts, 1) + CHUNK_MASK) >> CHUNK_SHIFT);
+        source.accept(new Loader() {
+            @Override
+            public void brand(long brandId, String brandName) {
+                ordinalOf(brandId, brandName);
+            }
+
+            @Override
+            public void product(long brandId, Category category, int price) {
+                Integer ordinal = ordinals.get(brandId);
+                if (ordinal == null) {
+                    throw new IllegalStateException("브랜드보다 상품이 먼저 적재되었습니다: " + brandId);
+                }
+                append(ordinal, category, price);
+            }
+        });
+        loaded = true;
+    }
+
+    /**
+     * 주어진 상품 목록으로 저장소를 다시 채웁니다.
+     */
+    public void reload(List<ProductPriceView> products) {
+        reload(products.size(), loader -> {
+            for (ProductPriceView product : products) {
+                loader.brand(product.brandId(), product.brandName());
+                loader.product(product.brandId(), product.category(), product.price());
+            }
+        });
+    }
+
+    public synchronized void add(Long brandId, String brandName, Category category, int price) {
+        append(ordinalOf(brandId, brandName), category, price);
+    }
+
+    /**
+     * 여러 상품을 한 번의 잠금으로 추가합니다.
+     */
+    public synchronized void addAll(List<ProductPriceView> products) {
+        for (ProductPriceView product : products) {
+            append(ordinalOf(product.brandId(), product.brandName()), product.category(),
+                    product.price());
+        }
+    }
+
+    /**
+     * 같은 (브랜드, 카테고리, 가격)의 행 하나를 지웁니다. 마지막 행을 그 자리로 옮기므로 순서는 유지되지 않습니다.
+     */
+    public synchronized boolean remove(Long brandId, Category category, int price) {
+        Integer ordinal = ordinals.get(brandId);
+        if (ordinal == null) {
+            return false;
+        }
+        int brand = ordinal;
+        byte column = (byte) category.ordinal();
+        int[] rows = brandRows[brand];
+        for (int i = 0; i < brandRowCounts[brand]; i++) {
+            int row = rows[i];
+            if (prices[row >> CHUNK_SHIFT][row & CHUNK_MASK] == price
+                    && categories[row >> CHUNK_SHIFT][row & CHUNK_MASK] == column) {
+                rows[i] = rows[--brandRowCounts[brand]];
+                fillFromLast(row);
+                productCounts[column]--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 브랜드와 카테고리가 맞는 행(null이면 모두)의 가격을 {@code newPrices}의 이전 가격 -> 새 가격으로 한 번 훑어 바꿉니다.
+     * 일괄 가격 변경은 이전 가격만으로 새 가격이 정해지므로 상품별 목록 대신 이 대응표 하나를 받습니다. 행은 옮기지 않습니다.
+     */
+    public synchronized void reprice(Long brandId, Category category,
+            Map<Integer, Integer> newPrices) {
+        int brand = -1;
+        if (brandId != null) {
+            Integer ordinal = ordinals.get(brandId);
+            if (ordinal == null) {
+                return;
+            }
+            brand = ordinal;
+        }
+        int column = category == null ? -1 : category.ordinal();
+        if (brand >= 0) {
+            int[] rows = brandRows[brand];
+            for (int i = 0; i < brandRowCounts[brand]; i++) {
+                int chunk = rows[i] >> CHUNK_SHIFT;
+                int offset = rows[i] & CHUNK_MASK;
+                if (column < 0 || categories[chunk][offset] == column) {
+                    reprice(chunk, offset, newPrices);
+                }
+            }
+            return;
+        }
+        for (int chunk = 0, base = 0; base < size; chunk++, base += CHUNK_SIZE) {
+            byte[] chunkCategories = categories[chunk];
+            int rows = Math.min(CHUNK_SIZE, size - base);
+            for (int row = 0; row < rows; row++) {
+                if (chunkCategories[row] == column) {
+                    reprice(chunk, row, newPrices);
+                }
+            }
+        }
+    }
+
+    private void reprice(int chunk, int offset, Map<Integer, Integer> newPrices) {
+        Integer price = newPrices.get(prices[chunk][offset]);
+        if (price != null) {
+            own(chunk);
+            prices[chunk][offset] = price;
+        }
+    }
+
+    public synchronized void renameBrand(Long brandId, String brandName) {
+        Integer ordinal = ordinals.get(brandId);
+        if (ordinal != null) {
+            ownDictionary();
+            brandNames[ordinal] = brandName;
+        }
+    }
+
+    /**
+     * 브랜드의 행을 뒤쪽부터 하나씩 마지막 행으로 메워 지우고, 브랜드 번호는 다음 새 브랜드가 다시 씁니다.
+     */
+    public synchronized void removeBrand(Long brandId) {
+        Integer ordinal = ordinals.remove(brandId);
+        if (ordinal == null) {
+            return;
+        }
+        int brand = ordinal;
+        int[] rows = Arrays.copyOf(brandRows[brand], brandRowCounts[brand]);
+        brandRows[brand] = null;
+        brandRowCounts[brand] = 0;
+        // Rows of this brand above the current one are already gone, so the last row never is one.
+        Arrays.sort(rows);
+        for (int i = rows.length - 1; i >= 0; i--) {
+            int row = rows[i];
+            productCounts[categories[row >> CHUNK_SHIFT][row & CHUNK_MASK]]--;
+            fillFromLast(row);
+        }
+        ownDictionary();
+        brandNames[brand] = null;
+        freeOrdinals.push(brand);
+    }
+
+    /**
+     * 모든 행을 방문합니다. 쓰기 쪽에서 인덱스를 다시 만들 때 씁니다.
+     */
+    public synchronized void forEach(RowVisitor visitor) {
+        live().forEach(visitor);
+    }
+
+    /**
+     * 브랜드의 해당 카테고리 상품 중 가장 낮은 가격입니다. 상품이 없으면 {@link #MISSING}입니다.
+     */
+    public synchronized int minPrice(Long brandId, Category category) {
+        Integer ordinal = ordinals.get(brandId);
+        if (ordinal == null) {
+            return MISSING;
+        }
+        byte column = (byte) category.ordinal();
+        int min = MISSING;
+        int[] rows = brandRows[ordinal];
+        for (int i = 0; i < brandRowCounts[ordinal]; i++) {
+            int chunk = rows[i] >> CHUNK_SHIFT;
+            int offset = rows[i] & CHUNK_MASK;
+            if (categories[chunk][offset] == column && prices[chunk][offset] < min) {
+                min = prices[chunk][offset];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * 카테고리의 최저가와 그 가격의 상품을 가진 브랜드들을 한 번 훑어 찾습니다.
+     */
+    public synchronized Lowest lowest(Category category) {
+        return live().lowest(category);
+    }
+
+    /**
+     * 지금 상태의 불변 스냅숏을 만듭니다. 조각 목록만 복사하고 조각은 공유하므로 비용은 조각 수에 비례합니다.
+     */
+    public synchronized View snapshot() {
+        Arrays.fill(owned, false);
+        dictionaryOwned = false;
+        sharedRows = Math.max(sharedRows, size);
+        return new View(prices.clone(), brands.clone(), categories.clone(), size, brandIds,
+                brandNames, productCounts.clone(), loaded);
+    }
+
+    // Valid only while the caller holds this object's lock.
+    private View live() {
+        return new View(prices, brands, categories, size, brandIds, brandNames, productCounts,
+                loaded);
+    }
+
+    private void append(int ordinal, Category category, int price) {
+        int chunk = size >> CHUNK_SHIFT;
+        if (chunk == prices.length) {
+            int chunks = Math.max(chunk + 1, chunk + (chunk >> 1));
+            prices = Arrays.copyOf(prices, chunks);
+            brands = Arrays.copyOf(brands, chunks);
+            categories = Arrays.copyOf(categories, chunks);
+            owned = Arrays.copyOf(owned, chunks);
+        }
+        if (prices[chunk] == null) {
+            prices[chunk] = new int[CHUNK_SIZE];
+            brands[chunk] = new int[CHUNK_SIZE];
+            categories[chunk] = new byte[CHUNK_SIZE];
+            owned[chunk] = true;
+        } else if (size < sharedRows) {
+            own(chunk);
+        }
+        int offset = size & CHUNK_MASK;
+        prices[chunk][offset] = price;
+        brands[chunk][offset] = ordinal;
+        categories[chunk][offset] = (byte) category.ordinal();
+        addBrandRow(ordinal, size);
+        size++;
+        productCounts[category.ordinal()]++;
+    }
+
+    private void addBrandRow(int brand, int row) {
+        int[] rows = brandRows[brand];
+        if (rows == null) {
+            rows = brandRows[brand] = new int[4];
+        } else if (brandRowCounts[brand] == rows.length) {
+            rows = brandRows[brand] = Arrays.copyOf(rows, rows.length * 2);
+        }
+        rows[brandRowCounts[brand]++] = row;
+    }
+
+    /**
+     * 지운 행 {@code hole}을 마지막 행으로 메웁니다. 호출하는 쪽이 {@code hole}을 그 브랜드의 행 목록에서 먼저 빼야 합니다.
+     * 옮겨진 행의 브랜드 목록은 그 브랜드의 행만 찾아 고칩니다.
+     */
+    private void fillFromLast(int hole) {
+        int last = --size;
+        if (last == hole) {
+            return;
+        }
+        int brand = brands[last >> CHUNK_SHIFT][last & CHUNK_MASK];
+        int[] rows = brandRows[brand];
+        for (int i = 0; i < brandRowCounts[brand]; i++) {
+            if (rows[i] == last) {
+                rows[i] = hole;
+                break;
+            }
+        }
+        move(last, hole);
+    }
+
+    private void move(int from, int to) {
+        int chunk = to >> CHUNK_SHIFT;
+        own(chunk);
+        int offset = to & CHUNK_MASK;
+        int fromChunk = from >> CHUNK_SHIFT;
+        int fromOffset = from & CHUNK_MASK;
+        prices[chunk][offset] = prices[fromChunk][fromOffset];
+        brands[chunk][offset] = brands[fromChunk][fromOffset];
+        categories[chunk][offset] = categories[fromChunk][fromOffset];
+    }
+
+    private void own(int chunk) {
+        if (!owned[chunk]) {
+            prices[chunk] = prices[chunk].clone();
+            brands[chunk] = brands[chunk].clone();
+            categories[chunk] = categories[chunk].clone();
+            owned[chunk] = true;
+        }
+    }
+
+    private void ownDictionary() {
+        if (!dictionaryOwned) {
+            brandIds = brandIds.clone();
+            brandNames = brandNames.clone();
+            dictionaryOwned = true;
+        }
+    }
+
+    private int ordinalOf(long brandId, String brandName) {
+        Integer existing = ordinals.get(brandId);
+        if (existing != null) {
+            if (!brandName.equals(brandNames[existing])) {
+                ownDictionary();
+                brandNames[existing] = brandName;
+            }
+            return existing;
+        }
+        ownDictionary();
+        int ordinal = freeOrdinals.isEmpty() ? brandCount++ : freeOrdinals.pop();
+        if (ordinal == brandIds.length) {
+            brandIds = Arrays.copyOf(brandIds, ordinal * 2);
+            brandNames = Arrays.copyOf(brandNames, ordinal * 2);
+            brandRows = Arrays.copyOf(brandRows, ordinal * 2);
+            brandRowCounts = Arrays.copyOf(brandRowCounts, ordinal * 2);
+        }
+        brandIds[ordinal] = brandId;
+        brandNames[ordinal] = brandName;
+        ordinals.put(brandId, ordinal);
+        return ordinal;
+    }
+
+    private void clear(int chunks) {
+        prices = new int[chunks][];
+        brands = new int[chunks][];
+        categories = new byte[chunks][];
+        owned = new boolean[chunks];
+        size = 0;
+        sharedRows = 0;
+        ordinals.clear();
+        freeOrdinals.clear();
+        brandIds = new long[INITIAL_BRANDS];
+        brandNames = new String[INITIAL_BRANDS];
+        brandRows = new int[INITIAL_BRANDS][];
+        brandRowCounts = new int[INITIAL_BRANDS];
+        dictionaryOwned = true;
+        brandCount = 0;
+        Arrays.fill(productCounts, 0);
+    }
+
+    /**
+     * 한 시점의 상품 열입니다. 만든 뒤에는 바뀌지 않으므로 락 없이 여러 스레드가 함께 훑습니다.
+     */
+    public static final class View {
+
+        private final int[][] prices;
+        private final int[][] brands;
+        private final byte[][] categories;
+        private final int size;
+        private final long[] brandIds;
+        private final String[] brandNames;
+        private final int[] productCounts;
+        private final boolean loaded;
+
+        private View(int[][] prices, int[][] brands, byte[][] categories, int size,
+                long[] brandIds, String[] brandNames, int[] productCounts, boolean loaded) {
+            this.prices = prices;
+            this.brands = brands;
+            this.categories = categories;
+            this.size = size;
+            this.brandIds = brandIds;
+            this.brandNames = brandNames;
+            this.productCounts = productCounts;
+            this.loaded = loaded;
+        }
+
+        /**
+         * DB에서 한 번 이상 적재된 뒤의 스냅숏인지 여부입니다. 적재 전에는 조회를 DB로 보내야 합니다.
+         */
+        public boolean isLoaded() {
+            return loaded;
+        }
+
+        public int productCount(Category category) {
+            return productCounts[category.ordinal()];
+        }
+
+        public void forEach(RowVisitor visitor) {
+            for (int chunk = 0, base = 0; base < size; chunk++, base += CHUNK_SIZE) {
+                int[] chunkPrices = prices[chunk];
+                int[] chunkBrands = brands[chunk];
+                byte[] chunkCategories = categories[chunk];
+                int rows = Math.min(CHUNK_SIZE, size - base);
+                for (int row = 0; row < rows; row++) {
+                    int brand = chunkBrands[row];
+                    visitor.visit(brandIds[brand], brandNames[brand],
+                            CATEGORIES[chunkCategories[row]], chunkPrices[row]);
+                }
+            }
+        }
+
+        Lowest lowest(Category category) {
+            byte column = (byte) category.ordinal();
+            int min = MISSING;
+            for (int chunk = 0, base = 0; base < size; chunk++, base += CHUNK_SIZE) {
+                int[] chunkPrices = prices[chunk];
+                byte[] chunkCategories = categories[chunk];
+                int rows = Math.min(CHUNK_SIZE, size - base);
+                for (int row = 0; row < rows; row++) {
+                    if (chunkCategories[row] == column && chunkPrices[row] < min) {
+                        min = chunkPrices[row];
+                    }
+                }
+            }
+            Map<Long, String> lowestBrands = new HashMap<>();
+            if (min == MISSING) {
+                return new Lowest(min, lowestBrands);
+            }
+            for (int chunk = 0, base = 0; base < size; chunk++, base += CHUNK_SIZE) {
+                int[] chunkPrices = prices[chunk];
+                int[] chunkBrands = brands[chunk];
+                byte[] chunkCategories = categories[chunk];
+                int rows = Math.min(CHUNK_SIZE, size - base);
+                for (int row = 0; row < rows; row++) {
+                    if (chunkPrices[row] == min && chunkCategories[row] == column) {
+                        int brand = chunkBrands[row];
+                        lowestBrands.put(brandIds[brand], brandNames[brand]);
+                    }
+                }
+            }
+            return new Lowest(min, lowestBrands);
+        }
+
+        /**
+         * 카테고리의 최저가/최고가 브랜드를 찾습니다. 상품이 없으면 {@code null}입니다.
+         */
+        public CategoryPriceResponse priceRange(Category category) {
+            byte column = (byte) category.ordinal();
+            int min = MISSING;
+            int max = Integer.MIN_VALUE;
+            for (int chunk = 0, base = 0; base < size; chunk++, base += CHUNK_SIZE) {
+                int[] chunkPrices = prices[chunk];
+                byte[] chunkCategories = categories[chunk];
+                int rows = Math.min(CHUNK_SIZE, size - base);
+                for (int row = 0; row < rows; row++) {
+                    if (chunkCategories[row] == column) {
+                        int price = chunkPrices[row];
+                        min = Math.min(min, price);
+                        max = Math.max(max, price);
+                    }
+                }
+            }
+            if (min == MISSING) {
+                return null;
+            }
+            List<CategoryPriceResponse.BrandPrice> lowestPrices = new ArrayList<>();
+            List<CategoryPriceResponse.BrandPrice> highestPrices = new ArrayList<>();
+            for (int chunk = 0, base = 0; base < size; chunk++, base += CHUNK_SIZE) {
+                int[] chunkPrices = prices[chunk];
+                int[] chunkBrands = brands[chunk];
+                byte[] chunkCategories = categories[chunk];
+                int rows = Math.min(CHUNK_SIZE, size - base);
+                for (int row = 0; row < rows; row++) {
+                    int price = chunkPrices[row];
+                    if ((price == min || price == max) && chunkCategories[row] == column) {
+                        CategoryPriceResponse.BrandPrice brandPrice =
+                                new CategoryPriceResponse.BrandPrice(brandNames[chunkBrands[row]],
+                                        price);
+                        if (price == min) {
+                            lowestPrices.add(brandPrice);
+                        }
+                        if (price == max) {
+                            highestPrices.add(brandPrice);
+                        }
+                    }
+                }
+            }
+            lowestPrices.sort(Comparator.comparing(CategoryPriceResponse.BrandPrice::brand));
+            highestPrices.sort(Comparator.comparing(CategoryPriceResponse.BrandPrice::brand));
+            return new CategoryPriceResponse(category.name(), lowestPrices, highestPrices);
+        }
+
+        /**
+         * 상품이 있는 카테고리마다 최저가와 최고가를 한 번 훑어 구합니다.
+         */
+        public List<PriceRangeResponse> priceRanges() {
+            int[] min = new int[CATEGORIES.length];
+            int[] max = new int[CATEGORIES.length];
+            Arrays.fill(min, MISSING);
+            Arrays.fill(max, Integer.MIN_VALUE);
+            for (int chunk = 0, base = 0; base < size; chunk++, base += CHUNK_SIZE) {
+                int[] chunkPrices = prices[chunk];
+                byte[] chunkCategories = categories[chunk];
+                int rows = Math.min(CHUNK_SIZE, size - base);
+                for (int row = 0; row < rows; row++) {
+                    int column = chunkCategories[row];
+                    int price = chunkPrices[row];
+                    if (price < min[column]) {
+                        min[column] = price;
+                    }
+                    if (price > max[column]) {
+                        max[column] = price;
+                    }
+                }
+            }
+            List<PriceRangeResponse> ranges = new ArrayList<>();
+            for (Category category : CATEGORIES) {
+                if (min[category.ordinal()] != MISSING) {
+                    ranges.add(new PriceRangeResponse(category.name(), min[category.ordinal()],
+                            max[category.ordinal()]));
+                }
+            }
+            return ranges;
+        }
+    }
+}
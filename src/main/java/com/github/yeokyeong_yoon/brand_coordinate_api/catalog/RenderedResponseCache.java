@@ -0,0 +1,86 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 조회 API의 JSON 응답 본문을 카탈로그 버전마다 한 번만 직렬화해 바이트 배열로 담아 둡니다.
+ * <p>
+ * 키마다 가장 최근 버전의 본문 하나만 유지하고, 버전이 바뀐 뒤 첫 요청이 다시 만듭니다. 같은 버전의 요청은 직렬화 없이
+ * 같은 배열을 그대로 응답에 씁니다. 반환한 배열은 여러 요청이 공유하므로 수정하면 안 됩니다.
+ */
+@Component
+public class RenderedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzip;
+
+    private final Map<String, RenderedResponse> responses = new ConcurrentHashMap<>();
+
+    public RenderedResponseCache(ObjectMapper objectMapper,
+            RenderedResponseProperties properties) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.gzip = properties.isGzip();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isGzipEnabled() {
+        return gzip;
+    }
+
+    /**
+     * {@code version}으로 만든 본문이 있으면 반환하고, 없으면 {@code body}를 직렬화해 저장합니다.
+     * {@code version}은 {@code body}가 읽는 {@link CatalogSnapshot}의 버전이어야 합니다.
+     */
+    public RenderedResponse get(String key, long version, Supplier<Object> body) {
+        RenderedResponse cached = responses.get(key);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        RenderedResponse rendered = render(version, body.get());
+        // Concurrent renders may finish out of order; never replace a newer version.
+        responses.merge(key, rendered,
+                (current, next) -> next.version() >= current.version() ? next : current);
+        return rendered;
+    }
+
+    private RenderedResponse render(long version, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new RenderedResponse(version, json, gzip ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 한 버전의 응답 본문입니다. gzip 변형을 만들지 않도록 설정했으면 {@code gzip}은 null입니다.
+     */
+    public record RenderedResponse(long version, byte[] json, byte[] gzip) {
+
+    }
+}
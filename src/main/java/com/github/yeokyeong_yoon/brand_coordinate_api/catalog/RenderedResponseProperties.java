@@ -0,0 +1,24 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 조회 응답을 카탈로그 버전마다 한 번만 직렬화해 두는 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.rendered-responses")
+public class RenderedResponseProperties {
+
+    /**
+     * 끄면 요청마다 Jackson으로 응답을 직렬화합니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * gzip으로 압축한 본문도 함께 만들어 두고, {@code Accept-Encoding: gzip} 요청에 그대로 내려줍니다.
+     */
+    private boolean gzip = true;
+}
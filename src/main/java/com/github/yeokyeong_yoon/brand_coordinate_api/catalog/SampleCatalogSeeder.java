@@ -0,0 +1,44 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * {@code durable} 프로필에서 DB가 비어 있을 때만 샘플 데이터({@code data.sql})를 넣습니다.
+ * <p>
+ * 파일 DB는 재시작해도 데이터가 남으므로, 매번 {@code data.sql}을 다시 실행하면 운영자가 바꾼 내용 위에 샘플 상품이 중복됩니다.
+ * {@code perf} 프로필을 함께 켜면 합성 카탈로그가 같은 방식으로 비어 있을 때만 적재되므로 이 적재는 건너뜁니다.
+ */
+@Slf4j
+@Component
+@Profile("durable & !perf")
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+public class SampleCatalogSeeder implements InitializingBean {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        Long brands = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM brand", Long.class);
+        if (brands != null && brands > 0) {
+            log.info("Catalog already has {} brands, skipping sample seed", brands);
+            return;
+        }
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("data.sql"));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(dataSource);
+        log.info("Seeded empty catalog from data.sql");
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+
+/**
+ * 커밋된 카탈로그 변경을 나타내는 도메인 이벤트입니다. 모든 이벤트는 브랜드 ID를 가지며, 같은 브랜드의 이벤트는 발행 순서대로 전달됩니다.
+ */
+public sealed interface CatalogEvent {
+
+    Long brandId();
+
+    record ProductAdded(Long productId, Long brandId, String brandName, Category category,
+                        int price) implements CatalogEvent {
+
+    }
+
+    /**
+     * 브랜드와 카테고리는 그대로이고 가격만 바뀐 경우입니다. 브랜드나 카테고리가 바뀌면
+     * {@link ProductRemoved}와 {@link ProductAdded}로 나눠 발행합니다.
+     */
+    record PriceChanged(Long productId, Long brandId, String brandName, Category category,
+                        int previousPrice, int price) implements CatalogEvent {
+
+    }
+
+    record ProductRemoved(Long productId, Long brandId, Category category, int price)
+            implements CatalogEvent {
+
+    }
+
+    record BrandRenamed(Long brandId, String brandName) implements CatalogEvent {
+
+    }
+
+    /**
+     * 브랜드와 그 브랜드의 모든 상품이 삭제되었습니다.
+     */
+    record BrandRemoved(Long brandId) implements CatalogEvent {
+
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커밋된 카탈로그 변경을 프로세스 안의 구독자에게 비동기로 전달합니다.
+ * <p>
+ * 서비스는 {@code AfterCommit} 안에서 이벤트를 발행하므로 롤백된 변경은 전달되지 않습니다. 이벤트는 브랜드 ID로 고른
+ * 전달 스레드(lane)의 큐에 들어가고, 각 스레드는 쌓인 이벤트를 묶어 구독자에게 넘깁니다.
+ * <p>
+ * 발행은 메모리 인덱스를 고치는 {@link CatalogVersion#update(Runnable)} 안에서 합니다. 그 안에서는 큐에 순번을 받아 넣기만
+ * 하므로 같은 브랜드의 이벤트는 카탈로그 버전 순서대로 전달되고, 구독자가 느려도 카탈로그 쓰기는 멈추지 않습니다.
+ * 큐에 {@code queueCapacity}개보다 많이 쌓여 있으면 발행한 스레드가 갱신을 마친 뒤 자리가 날 때까지 기다리므로,
+ * 이벤트가 버려지거나 메모리가 무한히 늘지 않습니다. 종료된 뒤의 발행은 예외로 알립니다.
+ */
+@Slf4j
+@Component
+public class CatalogEventBus implements DisposableBean {
+
+    private final List<CatalogEventListener> listeners;
+    private final int maxBatchSize;
+    private final Lane[] lanes;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    public CatalogEventBus(List<CatalogEventListener> listeners,
+            CatalogEventProperties properties) {
+        if (properties.getLanes() < 1 || properties.getQueueCapacity() < 1
+                || properties.getMaxBatchSize() < 1) {
+            throw new IllegalArgumentException("catalog.events 설정값은 1 이상이어야 합니다.");
+        }
+        this.listeners = List.copyOf(listeners);
+        this.maxBatchSize = properties.getMaxBatchSize();
+        // Without subscribers there is nothing to deliver, so no threads are started.
+        this.lanes = new Lane[this.listeners.isEmpty() ? 0 : properties.getLanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i, properties.getQueueCapacity());
+            lanes[i].thread.start();
+        }
+    }
+
+    /**
+     * 이벤트를 브랜드의 전달 큐에 넣습니다. 큐가 가득 차 있으면 자리가 날 때까지 기다리되, 카탈로그 갱신 중이라면
+     * 갱신이 끝난 뒤에 기다립니다.
+     *
+     * @throws IllegalStateException 이미 종료되어 이벤트를 전달할 수 없는 경우
+     */
+    public void publish(CatalogEvent event) {
+        if (lanes.length == 0) {
+            return;
+        }
+        Lane lane = lanes[Math.floorMod(event.brandId().hashCode(), lanes.length)];
+        long sequence = lane.reserve(event);
+        published.increment();
+        if (isLaneThread()) {
+            // A subscriber that writes back must not wait on a lane, possibly its own, to drain.
+            return;
+        }
+        CatalogVersion.afterUpdate(() -> lane.awaitSpace(sequence));
+    }
+
+    public void publishAll(List<? extends CatalogEvent> events) {
+        for (CatalogEvent event : events) {
+            publish(event);
+        }
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long deliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * 남은 이벤트를 모두 전달한 뒤 전달 스레드를 멈춥니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private boolean isLaneThread() {
+        for (Lane lane : lanes) {
+            if (lane.thread == Thread.currentThread()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deliver(List<CatalogEvent> batch) {
+        List<CatalogEvent> events = List.copyOf(batch);
+        for (CatalogEventListener listener : listeners) {
+            try {
+                listener.onEvents(events);
+            } catch (RuntimeException e) {
+                // One failing subscriber must not stall the lane or starve the others.
+                log.error("Catalog event listener {} failed on {} events",
+                        listener.getClass().getSimpleName(), events.size(), e);
+            }
+        }
+        delivered.add(events.size());
+    }
+
+    private class Lane implements Runnable {
+
+        private final BlockingQueue<CatalogEvent> queue = new LinkedBlockingQueue<>();
+        private final int capacity;
+        private final Thread thread;
+        private volatile boolean running = true;
+        // Guarded by this lane: sequence of the last reserved event and count taken for delivery.
+        private long reserved;
+        private long taken;
+
+        Lane(int index, int capacity) {
+            this.capacity = capacity;
+            this.thread = new Thread(this, "catalog-events-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * 이벤트를 큐 끝에 넣고 순번을 돌려줍니다. 기다리지 않으므로 카탈로그 갱신 안에서 불러도 됩니다.
+         */
+        synchronized long reserve(CatalogEvent event) {
+            if (!running) {
+                throw new IllegalStateException("Catalog event bus is shut down, cannot publish: "
+                        + event);
+            }
+            queue.add(event);
+            return ++reserved;
+        }
+
+        /**
+         * 순번 {@code sequence}의 이벤트 앞에 전달되지 않은 이벤트가 {@code capacity}개 이하가 될 때까지 기다립니다.
+         * 이벤트는 이미 큐에 있으므로 기다리다 인터럽트되어도 버려지지 않습니다.
+         */
+        synchronized void awaitSpace(long sequence) {
+            try {
+                while (sequence - taken > capacity) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized void stop() {
+            running = false;
+        }
+
+        private synchronized void took(int count) {
+            taken += count;
+            notifyAll();
+        }
+
+        @Override
+        public void run() {
+            List<CatalogEvent> batch = new ArrayList<>(maxBatchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    CatalogEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    took(batch.size());
+                    deliver(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
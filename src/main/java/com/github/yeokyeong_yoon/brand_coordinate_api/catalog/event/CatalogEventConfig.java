@@ -0,0 +1,9 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CatalogEventProperties.class)
+public class CatalogEventConfig {
+}
@@ -0,0 +1,14 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event;
+
+import java.util.List;
+
+/**
+ * {@link CatalogEventBus}의 구독자입니다. 빈으로 등록하면 자동으로 구독됩니다.
+ * <p>
+ * 이벤트는 전달 스레드에서 묶음으로 전달됩니다. 같은 브랜드의 이벤트는 항상 같은 스레드에서 발행 순서대로 오지만,
+ * 다른 브랜드 사이의 순서는 보장하지 않습니다. 처리가 느리면 큐가 차서 쓰기 요청이 기다리게 됩니다.
+ */
+public interface CatalogEventListener {
+
+    void onEvents(List<CatalogEvent> events);
+}
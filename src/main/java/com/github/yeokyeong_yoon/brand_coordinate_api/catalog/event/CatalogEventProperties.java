@@ -0,0 +1,29 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 카탈로그 이벤트 전달 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.events")
+public class CatalogEventProperties {
+
+    /**
+     * 전달 스레드 수입니다. 브랜드 ID로 스레드를 고르므로 같은 브랜드의 이벤트는 한 스레드가 순서대로 전달합니다.
+     */
+    private int lanes = 4;
+
+    /**
+     * 스레드마다 쌓아 둘 수 있는 이벤트 수입니다. 넘치면 발행한 스레드가 카탈로그 갱신을 마친 뒤 자리가 날 때까지 기다립니다.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 구독자에게 한 번에 넘기는 최대 이벤트 수입니다.
+     */
+    private int maxBatchSize = 256;
+}
@@ -0,0 +1,196 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 요청마다 한 줄짜리 JSON 접근 로그를 {@code access} 로거로 남깁니다.
+ * <p>
+ * 성공한 요청은 {@code access-log.sample-rate} 비율로만 남기고, 느린 요청과 실패한 요청(4xx, 5xx)은 모두 남깁니다.
+ * 응답 본문은 남기지 않습니다. 실패한 요청만 쿼리 문자열, 요청 본문, 헤더, 오류 메시지를 항목마다 길이를 잘라 함께 남깁니다.
+ * 로그를 파일에 쓰는 일은 {@code logback-spring.xml}의 비동기 appender가 요청 스레드 밖에서 하며, 큐가 가득 차면
+ * 요청을 막지 않고 로그를 버립니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    /**
+     * 예외 처리기가 응답에 담은 오류 메시지를 이 요청 속성으로 넘기면 접근 로그에 함께 남깁니다.
+     */
+    public static final String ERROR_ATTRIBUTE = AccessLogFilter.class.getName() + ".error";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+
+    private static final Set<String> MASKED_HEADERS = Set.of(
+            HttpHeaders.AUTHORIZATION.toLowerCase(), HttpHeaders.PROXY_AUTHORIZATION.toLowerCase(),
+            HttpHeaders.COOKIE.toLowerCase());
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowNanos;
+    private final int maxPayloadLength;
+    private final DoubleSupplier random;
+
+    @Autowired
+    public AccessLogFilter(AccessLogProperties properties, ObjectMapper objectMapper) {
+        this(properties, objectMapper, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    AccessLogFilter(AccessLogProperties properties, ObjectMapper objectMapper,
+            DoubleSupplier random) {
+        if (properties.getSampleRate() < 0 || properties.getSampleRate() > 1
+                || properties.getMaxPayloadLength() < 0) {
+            throw new IllegalArgumentException(
+                    "access-log.sample-rate는 0~1, max-payload-length는 0 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.sampleRate = properties.getSampleRate();
+        this.slowNanos = properties.getSlowThreshold().toNanos();
+        this.maxPayloadLength = properties.getMaxPayloadLength();
+        this.random = random;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !accessLog.isInfoEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        // Only requests that carry a body pay for the caching wrapper, and it never holds more
+        // than the logged prefix plus one byte to tell that the body was cut.
+        HttpServletRequest logged = request.getContentType() != null
+                ? new ContentCachingRequestWrapper(request, maxPayloadLength + 1)
+                : request;
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(logged, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (failure == null && logged.isAsyncStarted()) {
+                logged.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(logged, response, start, null);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(logged, response, start, failure);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long start,
+            Throwable failure) {
+        long elapsed = System.nanoTime() - start;
+        int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+                : response.getStatus();
+        boolean error = status >= 400;
+        String reason;
+        if (error) {
+            reason = "error";
+        } else if (elapsed >= slowNanos) {
+            reason = "slow";
+        } else if (sampleRate > 0 && random.getAsDouble() < sampleRate) {
+            reason = "sampled";
+        } else {
+            return;
+        }
+
+        Entry entry = new Entry(Instant.now().toString(), reason, request.getMethod(),
+                request.getRequestURI(), status, elapsed / 1_000,
+                error ? cap(request.getQueryString()) : null,
+                error ? requestBody(request) : null,
+                error ? errorMessage(request, failure) : null,
+                error ? headers(request) : null);
+        try {
+            accessLog.info(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to write access log entry", e);
+        }
+    }
+
+    private String requestBody(HttpServletRequest request) {
+        if (!(request instanceof ContentCachingRequestWrapper cached)) {
+            return null;
+        }
+        byte[] body = cached.getContentAsByteArray();
+        return body.length == 0 ? null : cap(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private String errorMessage(HttpServletRequest request, Throwable failure) {
+        if (failure != null) {
+            return cap(failure.toString());
+        }
+        Object message = request.getAttribute(ERROR_ATTRIBUTE);
+        return message != null ? cap(message.toString()) : null;
+    }
+
+    private Map<String, String> headers(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            headers.put(name, MASKED_HEADERS.contains(name.toLowerCase()) ? "***"
+                    : cap(request.getHeader(name)));
+        }
+        return headers;
+    }
+
+    private String cap(String value) {
+        if (value == null || value.length() <= maxPayloadLength) {
+            return value;
+        }
+        return value.substring(0, maxPayloadLength) + "...(truncated)";
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(String time, String reason, String method, String path, int status,
+                 long durationMicros, String query, String requestBody, String error,
+                 Map<String, String> headers) {
+
+    }
+}
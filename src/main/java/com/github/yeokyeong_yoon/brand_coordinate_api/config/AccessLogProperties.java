@@ -0,0 +1,36 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 접근 로그 설정입니다. 로그를 쓰는 위치({@code access-log.file})는 {@code logback-spring.xml}이 읽습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    /**
+     * 끄면 요청마다 시간을 재거나 본문을 담아 두지 않습니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 성공한 요청 중 로그로 남길 비율(0~1)입니다. 실패한 요청과 느린 요청은 비율과 상관없이 모두 남깁니다.
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * 이보다 오래 걸린 요청은 성공해도 모두 남깁니다.
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * 실패한 요청의 쿼리 문자열, 본문, 헤더 값을 남길 때 항목마다 자르는 최대 길이입니다.
+     */
+    private int maxPayloadLength = 2048;
+}
@@ -0,0 +1,86 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogLoadGate;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 메모리 인덱스를 적재하는 동안 고객 조회 API와 운영자 쓰기 API를 503으로 거절합니다.
+ * <p>
+ * 적재가 끝난 뒤에는 조회 요청은 적재 여부만 확인하고, 운영자 쓰기는 요청이 끝날 때까지 {@link CatalogLoadGate}의
+ * 쓰기 허가를 잡아 다시 적재하는 동안 인덱스 갱신이 끼어들지 않게 합니다. 운영자 조회는 DB만 읽으므로 막지 않습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+public class CatalogLoadGateFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private static final String READ_PREFIX = "/api/products/";
+    private static final String WRITE_PREFIX = "/api/admin/";
+
+    private final CatalogLoadGate catalogLoadGate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = path(request);
+        return !path.startsWith(READ_PREFIX) && !(path.startsWith(WRITE_PREFIX)
+                && isWrite(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        if (path(request).startsWith(READ_PREFIX)) {
+            if (!catalogLoadGate.isLoaded()) {
+                reject(response);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!catalogLoadGate.tryBeginWrite()) {
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            catalogLoadGate.endWrite();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of("카탈로그를 불러오는 중입니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
@@ -8,6 +9,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.util.UrlPathHelper;
 
 @Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     @Override
@@ -1,15 +1,34 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ApiResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.BrandRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductImportResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductPageResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductSearchRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RepriceRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RepriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
 import com.github.yeokyeong_yoon.brand_coordinate_api.service.AdminService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.ProductImportService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
 
 @Slf4j
@@ -18,189 +37,171 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class AdminController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final AdminService adminService;
+    private final ProductImportService productImportService;
+    private final ObjectMapper objectMapper;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, ProductImportService productImportService,
+            ObjectMapper objectMapper) {
         this.adminService = adminService;
+        this.productImportService = productImportService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/brands")
-    public ResponseEntity<Map<String, Object>> registerBrand(@RequestBody BrandRequest request) {
-        log.info("Received request to register brand. Request body: {}", request);
-        try {
-            log.debug("Calling adminService.registerBrand() with request: {}", request);
-            var brand = adminService.registerBrand(request);
-            log.debug("Received response from service: {}", brand);
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "data", brand
-            );
-
-            log.info("Successfully registered brand. Returning response: {}", response);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (Exception e) {
-            log.error("Failed to register brand", e);
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
-        }
+    public ResponseEntity<ApiResponse<Brand>> registerBrand(@RequestBody BrandRequest request) {
+        log.debug("Received request to register brand. Request body: {}", request);
+        var response = ApiResponse.ok(adminService.registerBrand(request));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
     }
 
     @PutMapping("/brands/{brandId}")
-    public ResponseEntity<Map<String, Object>> updateBrand(@PathVariable Long brandId,
+    public ResponseEntity<ApiResponse<Map<String, Object>>> updateBrand(@PathVariable Long brandId,
             @RequestBody BrandRequest request) {
-        try {
-            Brand brand = adminService.updateBrand(brandId, request);
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "data", Map.of(
-                            "id", brand.getId(),
-                            "name", brand.getName()
-                    )
-            );
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to update brand {}: {}", brandId, e.getMessage());
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
-        }
+        Brand brand = adminService.updateBrand(brandId, request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.ok(Map.of(
+                        "id", brand.getId(),
+                        "name", brand.getName()
+                )));
     }
 
     @DeleteMapping("/brands/{brandId}")
-    public ResponseEntity<Map<String, Object>> deleteBrand(@PathVariable Long brandId) {
-        try {
-            adminService.deleteBrand(brandId);
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "message", "브랜드가 성공적으로 삭제되었습니다."
-            );
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to delete brand {}: {}", brandId, e.getMessage());
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
-        }
+    public ResponseEntity<ApiResponse<Void>> deleteBrand(@PathVariable Long brandId) {
+        adminService.deleteBrand(brandId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.message("브랜드가 성공적으로 삭제되었습니다."));
     }
 
+    /**
+     * 상품 목록을 ID 순서로 한 페이지씩 조회합니다. 응답의 {@code nextCursor}를 다음 요청의 {@code after}로 넘깁니다.
+     */
     @GetMapping("/products")
-    public ResponseEntity<Map<String, Object>> getAllProducts() {
-        log.info("Received request to get all products");
-        try {
-            log.debug("Calling adminService.getAllProducts()");
-            var products = adminService.getAllProducts();
-            log.debug("Received {} products from service", products.size());
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "data", products
-            );
-
-            log.info("Successfully retrieved products. Returning response: {}", response);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (Exception e) {
-            log.error("Failed to get products", e);
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
-        }
+    public ResponseEntity<ApiResponse<ProductPageResponse>> getProducts(ProductSearchRequest search,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int size) {
+        log.debug("Received request to get products. Filter: {}, after: {}, size: {}", search, after,
+                size);
+        var page = adminService.getProducts(search, after, size);
+
+        log.debug("Successfully retrieved {} products. Next cursor: {}", page.products().size(),
+                page.nextCursor());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.ok(page));
     }
 
-    @PostMapping("/products")
-    public ResponseEntity<Map<String, Object>> registerProduct(
-            @RequestBody ProductRequest request) {
-        log.info("Received request to register product. Request body: {}", request);
-        try {
-            log.debug("Validating product request...");
-            if (request.brand() == null || request.brand().trim().isEmpty()) {
-                throw new IllegalArgumentException("브랜드 이름은 필수입니다.");
-            }
-            if (request.category() == null) {
-                throw new IllegalArgumentException("카테고리는 필수입니다.");
-            }
-            if (request.price() <= 0) {
-                throw new IllegalArgumentException("가격은 0보다 커야 합니다.");
+    /**
+     * 조건에 맞는 상품 전체를 JSON 배열로 내려받습니다. DB에서 읽는 대로 바로 써서 카탈로그 크기와 상관없이 메모리 사용량이 일정합니다.
+     */
+    @GetMapping("/products/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(ProductSearchRequest search) {
+        log.debug("Received request to export products. Filter: {}", search);
+        ObjectWriter productWriter = objectMapper.writerFor(ProductResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                adminService.exportProducts(search, product -> {
+                    try {
+                        productWriter.writeValue(generator, product);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
             }
+        };
 
-            log.debug("Calling adminService.registerProduct() with request: {}", request);
-            var product = adminService.registerProduct(request);
-            log.debug("Received response from service: {}", product);
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "data", product
-            );
-
-            log.info("Successfully registered product. Returning response: {}", response);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (Exception e) {
-            log.error("Failed to register product. Request: {}, Error: {}", request, e.getMessage(),
-                    e);
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.json\"")
+                .body(body);
+    }
+
+    @PostMapping("/products")
+    public ResponseEntity<ApiResponse<Product>> registerProduct(
+            @RequestBody ProductRequest request) {
+        log.debug("Received request to register product. Request body: {}", request);
+        log.debug("Validating product request...");
+        if (request.brand() == null || request.brand().trim().isEmpty()) {
+            throw new InvalidRequestException("브랜드 이름은 필수입니다.");
+        }
+        if (request.category() == null) {
+            throw new InvalidRequestException("카테고리는 필수입니다.");
+        }
+        if (request.price() <= 0) {
+            throw new InvalidRequestException("가격은 0보다 커야 합니다.");
         }
+
+        log.debug("Calling adminService.registerProduct() with request: {}", request);
+        var response = ApiResponse.ok(adminService.registerProduct(request));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    /**
+     * 상품 목록을 NDJSON(application/x-ndjson) 또는 CSV(text/csv, brand,category,price)로 받아 일괄 등록합니다.
+     * 본문은 스트리밍으로 읽으며, 잘못된 행은 건너뛰고 결과에 행 번호와 사유를 담습니다.
+     */
+    @PostMapping(value = "/products/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+        ProductImportService.Format format = TEXT_CSV.isCompatibleWith(contentType)
+                ? ProductImportService.Format.CSV
+                : ProductImportService.Format.NDJSON;
+        log.debug("Received product import request. Format: {}", format);
+        var result = productImportService.importProducts(body, format);
+
+        log.debug("Finished product import. Imported: {}, failed: {}", result.imported(),
+                result.failed());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.ok(result));
+    }
+
+    /**
+     * 브랜드나 카테고리, 또는 둘 다로 고른 상품의 가격을 새 가격({@code price})이나 변경률({@code percent})로 한꺼번에 바꿉니다.
+     */
+    @PostMapping("/products/reprice")
+    public ResponseEntity<ApiResponse<RepriceResponse>> repriceProducts(
+            @RequestBody RepriceRequest request) {
+        log.debug("Received reprice request: {}", request);
+        var result = adminService.repriceProducts(request);
+
+        log.debug("Repriced {} products", result.repriced());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.ok(result));
     }
 
     @DeleteMapping("/products/{productId}")
-    public ResponseEntity<Map<String, Object>> deleteProduct(@PathVariable Long productId) {
-        log.info("Received request to delete product with ID: {}", productId);
-        try {
-            log.debug("Calling adminService.deleteProduct() with ID: {}", productId);
-            adminService.deleteProduct(productId);
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "message", "Product deleted successfully"
-            );
-
-            log.info("Successfully deleted product. Returning response: {}", response);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (Exception e) {
-            log.error("Failed to delete product with ID: {}", productId, e);
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
-        }
+    public ResponseEntity<ApiResponse<Void>> deleteProduct(@PathVariable Long productId) {
+        log.debug("Received request to delete product with ID: {}", productId);
+        log.debug("Calling adminService.deleteProduct() with ID: {}", productId);
+        adminService.deleteProduct(productId);
+
+        var response = ApiResponse.message("Product deleted successfully");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    /**
+     * 카테고리별 가격 범위 캐시의 적중/실패/축출/무효화 횟수와 현재 항목 수를 조회합니다.
+     */
+    @GetMapping("/cache/price-range")
+    public ResponseEntity<ApiResponse<PriceRangeCache.Stats>> getPriceRangeCacheStats() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.ok(adminService.getPriceRangeCacheStats()));
     }
-} 
+}
@@ -0,0 +1,109 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.config.AccessLogFilter;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ErrorResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.DuplicateException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+/**
+ * 컨트롤러에서 던져진 예외를 {@link ErrorResponse}와 상태 코드로 바꿉니다.
+ * <p>
+ * 잘못된 요청은 예상된 실패이므로 스택 트레이스 없이 debug 로그만 남겨, 실패 응답의 비용이 성공 응답과 비슷하게 유지됩니다.
+ * 스택 트레이스와 error 로그는 서버 오류(500)에만 남깁니다. 본문 형식 오류나 지원하지 않는 메서드처럼 Spring MVC가 던지는
+ * 예외는 상위 클래스가 정한 상태 코드를 그대로 씁니다. 응답에 담은 메시지는 {@link AccessLogFilter}가 접근 로그에 함께 남깁니다.
+ * <p>
+ * 거절한 요청은 상태 코드와 예외 종류별로 {@code api.requests.rejected} 카운터에 셉니다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException e,
+            HttpServletRequest request) {
+        return rejected(request, HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException e,
+            HttpServletRequest request) {
+        return rejected(request, HttpStatus.NOT_FOUND, e);
+    }
+
+    @ExceptionHandler(DuplicateException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicate(DuplicateException e,
+            HttpServletRequest request) {
+        return rejected(request, HttpStatus.CONFLICT, e);
+    }
+
+    /**
+     * 아직 도메인 예외로 바꾸지 않은 입력 검증 실패도 잘못된 요청으로 봅니다.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e,
+            HttpServletRequest request) {
+        return rejected(request, HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleUnexpected(Exception e, HttpServletRequest request) {
+        log.error("Unhandled exception while processing request", e);
+        count(HttpStatus.INTERNAL_SERVER_ERROR.value(), e);
+        request.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, e.toString());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of("요청을 처리하는 중 오류가 발생했습니다."));
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(Exception ex, Object body,
+            HttpHeaders headers, HttpStatusCode statusCode, WebRequest request) {
+        // Spring's own messages may name internal classes; prefer the ProblemDetail summary.
+        String message = body instanceof ProblemDetail problem && problem.getDetail() != null
+                ? problem.getDetail()
+                : ex.getMessage();
+        log.debug("Rejected request with {}: {}", statusCode.value(), message);
+        count(statusCode.value(), ex);
+        request.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, message, WebRequest.SCOPE_REQUEST);
+        return ResponseEntity.status(statusCode)
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(message));
+    }
+
+    private ResponseEntity<ErrorResponse> rejected(HttpServletRequest request, HttpStatus status,
+            Exception e) {
+        String message = e.getMessage();
+        log.debug("Rejected request with {}: {}", status.value(), message);
+        count(status.value(), e);
+        request.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, message);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(message));
+    }
+
+    private void count(int status, Exception e) {
+        meterRegistry.counter("api.requests.rejected", "status", Integer.toString(status),
+                "exception", e.getClass().getSimpleName()).increment();
+    }
+}
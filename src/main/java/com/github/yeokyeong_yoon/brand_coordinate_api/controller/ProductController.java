@@ -1,13 +1,21 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogSnapshot;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.RenderedResponseCache;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
-import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ApiResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CheapestBrandResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RankedBrandsResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.BrandService;
 import com.github.yeokyeong_yoon.brand_coordinate_api.service.ProductService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -19,106 +27,171 @@ import java.util.Map;
 public class ProductController {
 
     private final ProductService productService;
+    private final BrandService brandService;
+    private final CatalogVersion catalogVersion;
+    private final RenderedResponseCache renderedResponses;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, BrandService brandService,
+            CatalogVersion catalogVersion, RenderedResponseCache renderedResponses) {
         this.productService = productService;
+        this.brandService = brandService;
+        this.catalogVersion = catalogVersion;
+        this.renderedResponses = renderedResponses;
     }
 
+    /**
+     * 조회 결과는 카탈로그 버전이 같으면 항상 같으므로, 버전을 ETag로 내려주고 If-None-Match가 일치하면
+     * 서비스를 호출하지 않고 304를 반환합니다. 요청마다 {@link CatalogSnapshot}을 하나 잡아 결과와 ETag를 모두 그
+     * 스냅숏에서 만들므로, ETag는 항상 본문이 만들어진 버전을 가리킵니다.
+     * <p>
+     * {@link RenderedResponseCache}가 켜져 있으면 버전마다 한 번 직렬화한 본문을 그대로 씁니다.
+     */
     @GetMapping("/lowest-prices")
-    public ResponseEntity<Map<String, Object>> getLowestPricesByCategory() {
-        log.info("Received request to get lowest prices by category");
-        try {
-            log.debug("Calling productService.findLowestPricesByCategory()");
-            var result = productService.findLowestPricesByCategory();
-            log.debug("Received response from service: {}", result);
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "data", result
-            );
-
-            log.info("Successfully retrieved lowest prices. Returning response: {}", response);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (Exception e) {
-            log.error("Failed to get lowest prices", e);
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
+    public ResponseEntity<?> getLowestPricesByCategory(WebRequest webRequest) {
+        log.debug("Received request to get lowest prices by category");
+        CatalogSnapshot snapshot = catalogVersion.snapshot();
+        long version = snapshot.version();
+        boolean gzip = acceptsGzip(webRequest);
+        String etag = etag(version, gzip);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
         }
+        if (renderedResponses.isEnabled()) {
+            return rendered(renderedResponses.get("lowest-prices", version,
+                    () -> ApiResponse.ok(productService.findLowestPricesByCategory(snapshot))), etag,
+                    gzip);
+        }
+
+        log.debug("Calling productService.findLowestPricesByCategory()");
+        var response = ApiResponse.ok(productService.findLowestPricesByCategory(snapshot));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     @PostMapping("/cheapest-brand")
-    public ResponseEntity<Map<String, Object>> getCheapestBrandTotal(
+    public ResponseEntity<ApiResponse<List<CheapestBrandResponse.BrandTotal>>> getCheapestBrandTotal(
             @RequestBody Map<String, List<Category>> request) {
-        log.info("Received request to get cheapest brand total. Request body: {}", request);
-        try {
-            List<Category> categories = request.get("categories");
-            if (categories == null || categories.isEmpty()) {
-                log.warn("No categories provided in request");
-                throw new IllegalArgumentException("Categories list cannot be empty");
-            }
+        log.debug("Received request to get cheapest brand total. Request body: {}", request);
+        return cheapestBrandTotal(catalogVersion.snapshot(), request.get("categories"), false);
+    }
+
+    /**
+     * POST와 같은 결과를 조건부 GET으로 조회합니다. 예: {@code ?categories=TOP,PANTS}
+     */
+    @GetMapping("/cheapest-brand")
+    public ResponseEntity<ApiResponse<List<CheapestBrandResponse.BrandTotal>>> getCheapestBrandTotal(
+            @RequestParam(required = false) List<Category> categories, WebRequest webRequest) {
+        log.debug("Received request to get cheapest brand total. Categories: {}", categories);
+        CatalogSnapshot snapshot = catalogVersion.snapshot();
+        if (webRequest.checkNotModified(catalogVersion.etag(snapshot.version()))) {
+            return null;
+        }
+        return cheapestBrandTotal(snapshot, categories, true);
+    }
+
+    private ResponseEntity<ApiResponse<List<CheapestBrandResponse.BrandTotal>>> cheapestBrandTotal(
+            CatalogSnapshot snapshot, List<Category> categories, boolean conditional) {
+        log.debug("Calling productService.findCheapestBrandTotal() with categories: {}",
+                categories);
+        var response = ApiResponse.ok(productService.findCheapestBrandTotal(snapshot, categories));
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+        if (conditional) {
+            ok.eTag(catalogVersion.etag(snapshot.version())).cacheControl(CacheControl.noCache());
+        }
+        return ok.body(response);
+    }
 
-            log.debug("Calling productService.findCheapestBrandTotal() with categories: {}",
-                    categories);
-            var result = productService.findCheapestBrandTotal(categories);
-            log.debug("Received response from service: {}", result);
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "data", result
-            );
-
-            log.info("Successfully retrieved cheapest brand total. Returning response: {}",
-                    response);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (Exception e) {
-            log.error("Failed to get cheapest brand total", e);
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
+    /**
+     * 선택한 카테고리를 모두 가진 브랜드를 총액이 낮은 순으로 조회합니다.
+     * 예: {@code ?categories=TOP,PANTS&offset=0&limit=10}
+     */
+    @GetMapping("/cheapest-brands")
+    public ResponseEntity<ApiResponse<RankedBrandsResponse>> getRankedBrands(
+            @RequestParam(required = false) List<Category> categories,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit, WebRequest webRequest) {
+        log.debug("Received request to get ranked brands. Categories: {}, offset: {}, limit: {}",
+                categories, offset, limit);
+        CatalogSnapshot snapshot = catalogVersion.snapshot();
+        String etag = catalogVersion.etag(snapshot.version());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
         }
+        var result = brandService.findRankedBrands(snapshot, categories, offset, limit);
+        log.debug("Ranked {} of {} brands", result.brands().size(), result.totalBrands());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.ok(result));
     }
 
     @GetMapping("/categories/{category}/price-range")
-    public ResponseEntity<Map<String, Object>> getPriceRangeByCategory(
-            @PathVariable Category category) {
-        log.info("Received request to get price range for category: {}", category);
-        try {
-            log.debug("Calling productService.findPriceRangeByCategory() with category: {}",
-                    category);
-            var result = productService.findPriceRangeByCategory(category);
-            log.debug("Received response from service: {}", result);
-
-            Map<String, Object> response = Map.of(
-                    "success", true,
-                    "data", result
-            );
-
-            log.info("Successfully retrieved price range. Returning response: {}", response);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response);
-        } catch (Exception e) {
-            log.error("Failed to get price range", e);
-            Map<String, Object> error = Map.of(
-                    "success", false,
-                    "message", e.getMessage()
-            );
-            return ResponseEntity.badRequest()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(error);
+    public ResponseEntity<?> getPriceRangeByCategory(@PathVariable Category category,
+            WebRequest webRequest) {
+        log.debug("Received request to get price range for category: {}", category);
+        CatalogSnapshot snapshot = catalogVersion.snapshot();
+        long version = snapshot.version();
+        boolean gzip = acceptsGzip(webRequest);
+        String etag = etag(version, gzip);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        if (renderedResponses.isEnabled()) {
+            return rendered(renderedResponses.get("price-range:" + category, version,
+                    () -> ApiResponse.ok(productService.findPriceRangeByCategory(snapshot,
+                            category))), etag, gzip);
+        }
+
+        log.debug("Calling productService.findPriceRangeByCategory() with category: {}", category);
+        var response = ApiResponse.ok(productService.findPriceRangeByCategory(snapshot,
+                category));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * gzip 본문은 다른 표현이므로 ETag도 달라야 합니다.
+     */
+    private String etag(long version, boolean gzip) {
+        String etag = catalogVersion.etag(version);
+        return gzip ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    private boolean acceptsGzip(WebRequest webRequest) {
+        if (!renderedResponses.isEnabled() || !renderedResponses.isGzipEnabled()) {
+            return false;
+        }
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private ResponseEntity<byte[]> rendered(RenderedResponseCache.RenderedResponse rendered,
+            String etag, boolean gzip) {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
         }
+        return ok.body(rendered.json());
     }
-} 
+}
@@ -0,0 +1,53 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.diagnostics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 문 준비와 실행, 배치 실행에 걸린 시간을 현재 요청의 {@link RequestSqlStats}에 더합니다.
+ * {@code hibernate.session.events.auto}로 지정하며, Hibernate가 세션마다 새로 만듭니다.
+ */
+public class JdbcTimingSessionListener extends BaseSessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long prepareStart;
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        record(prepareStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.jdbcTime(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.diagnostics;
+
+/**
+ * HTTP 요청 하나를 처리하는 동안 요청 스레드에서 실행된 SQL 통계입니다.
+ * <p>
+ * {@link SqlDiagnosticsFilter}가 요청을 시작할 때 만들고 끝날 때 지웁니다. 요청 스레드 밖(비동기 내보내기 등)에서 실행된
+ * SQL은 세지 않습니다.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private long rows;
+    private long jdbcNanos;
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드에서 처리 중인 요청의 통계입니다. 요청 스레드가 아니면 null입니다.
+     */
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void rowsFetched(int count) {
+        rows += count;
+    }
+
+    void jdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int entityLoads() {
+        return entityLoads;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long jdbcMicros() {
+        return jdbcNanos / 1_000;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.diagnostics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Hibernate 전역 통계를 그대로 모으면서, 같은 값을 현재 요청의 {@link RequestSqlStats}에도 더하는 통계 구현을 만듭니다.
+ * {@code hibernate.stats.factory}로 지정합니다.
+ */
+public class RequestStatisticsFactory implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new RequestStatistics(sessionFactory);
+    }
+
+    static class RequestStatistics extends StatisticsImpl {
+
+        private static final long serialVersionUID = 1L;
+
+        RequestStatistics(SessionFactoryImplementor sessionFactory) {
+            super(sessionFactory);
+        }
+
+        @Override
+        public void prepareStatement() {
+            super.prepareStatement();
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats != null) {
+                stats.statementPrepared();
+            }
+        }
+
+        @Override
+        public void loadEntity(String entityName) {
+            super.loadEntity(entityName);
+            entityLoaded();
+        }
+
+        @Override
+        public void fetchEntity(String entityName) {
+            super.fetchEntity(entityName);
+            entityLoaded();
+        }
+
+        @Override
+        public void queryExecuted(String hql, int rows, long time) {
+            super.queryExecuted(hql, rows, time);
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats != null) {
+                stats.rowsFetched(rows);
+            }
+        }
+
+        private static void entityLoaded() {
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats != null) {
+                stats.entityLoaded();
+            }
+        }
+    }
+}
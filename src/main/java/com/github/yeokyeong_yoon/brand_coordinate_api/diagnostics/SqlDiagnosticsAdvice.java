@@ -0,0 +1,48 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.diagnostics;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@code diagnostics} 프로필에서 응답 본문을 쓰기 직전에 그 요청의 SQL 통계를 응답 헤더로 붙입니다.
+ * <p>
+ * 본문을 쓰기 전에 붙이므로 스트리밍 응답처럼 본문을 쓰는 동안 실행되는 SQL은 헤더에 들어가지 않습니다.
+ */
+@ControllerAdvice
+@Profile("diagnostics")
+public class SqlDiagnosticsAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS = "X-Sql-Statements";
+    public static final String ENTITY_LOADS = "X-Sql-Entity-Loads";
+    public static final String ROWS = "X-Sql-Rows";
+    public static final String JDBC_MICROS = "X-Sql-Jdbc-Micros";
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STATEMENTS, Integer.toString(stats.statements()));
+            headers.set(ENTITY_LOADS, Integer.toString(stats.entityLoads()));
+            headers.set(ROWS, Long.toString(stats.rows()));
+            headers.set(JDBC_MICROS, Long.toString(stats.jdbcMicros()));
+        }
+        return body;
+    }
+}
@@ -5,13 +5,33 @@ import lombok.Data;
 
 @Entity
 @Data
+@Table(indexes = {
+        @Index(name = "idx_product_category_price", columnList = "category, price, brand_id")
+}, uniqueConstraints = {
+        // Also serves brand lookups and foreign key checks, since brand_id leads
+        @UniqueConstraint(name = "uk_product_brand_category_price",
+                columnNames = {"brand_id", "category", "price"})
+})
 public class Product {
 
+    /**
+     * 받을 수 있는 가장 높은 가격입니다. 8개 카테고리 가격을 모두 더해도 {@code int} 범위 안이고, 메모리 인덱스가 "상품 없음"
+     * 표시로 쓰는 {@link Integer#MAX_VALUE}보다 작습니다.
+     */
+    public static final int MAX_PRICE = 100_000_000;
+
+    /**
+     * 가격 상한을 넘었을 때의 오류 메시지입니다.
+     */
+    public static final String PRICE_TOO_HIGH = String.format("가격은 %,d원 이하여야 합니다.", MAX_PRICE);
+
+    // Sequence ids are allocated 50 at a time so Hibernate can batch inserts (IDENTITY disables JDBC batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id")
     private Brand brand;
 
@@ -0,0 +1,22 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 성공 응답의 공통 형식입니다. 조회와 등록은 {@code data}를, 삭제처럼 돌려줄 값이 없는 요청은 {@code message}를 채웁니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiResponse<T>(
+        boolean success,
+        T data,
+        String message
+) {
+
+    public static <T> ApiResponse<T> ok(T data) {
+        return new ApiResponse<>(true, data, null);
+    }
+
+    public static ApiResponse<Void> message(String message) {
+        return new ApiResponse<>(true, null, message);
+    }
+}
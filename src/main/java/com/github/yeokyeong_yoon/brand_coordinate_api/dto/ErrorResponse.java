@@ -0,0 +1,14 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+/**
+ * 실패 응답의 공통 형식입니다. 상태 코드는 HTTP 응답에 담고, {@code message}는 사용자에게 보여줄 문장입니다.
+ */
+public record ErrorResponse(
+        boolean success,
+        String message
+) {
+
+    public static ErrorResponse of(String message) {
+        return new ErrorResponse(false, message);
+    }
+}
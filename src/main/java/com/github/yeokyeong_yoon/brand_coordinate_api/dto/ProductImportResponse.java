@@ -0,0 +1,21 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과입니다. {@code errors}는 실패한 행을 최대 1,000개까지 행 번호순으로 담고, 전체 실패 수는 {@code failed}입니다.
+ */
+public record ProductImportResponse(
+        long received,
+        long imported,
+        long failed,
+        List<RowError> errors
+) {
+
+    public record RowError(
+            long line,
+            String message
+    ) {
+
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+import java.util.List;
+
+/**
+ * 상품 목록의 한 페이지입니다. 다음 페이지가 있으면 {@code nextCursor}를 {@code after}로 넘겨 이어서 조회합니다.
+ */
+public record ProductPageResponse(
+        List<ProductResponse> products,
+        Long nextCursor
+) {
+
+}
@@ -0,0 +1,28 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+
+public record ProductResponse(
+        Long id,
+        BrandSummary brand,
+        Category category,
+        int price
+) {
+
+    public static ProductResponse of(ProductPriceView view) {
+        return new ProductResponse(
+                view.id(),
+                new BrandSummary(view.brandId(), view.brandName()),
+                view.category(),
+                view.price()
+        );
+    }
+
+    public record BrandSummary(
+            Long id,
+            String name
+    ) {
+
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+
+/**
+ * 상품 목록 조회 조건입니다. 값이 없는 조건은 적용하지 않습니다.
+ */
+public record ProductSearchRequest(
+        String brand,
+        Category category,
+        Integer minPrice,
+        Integer maxPrice
+) {
+
+}
@@ -0,0 +1,23 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+import java.util.List;
+
+/**
+ * 선택한 카테고리를 모두 가진 브랜드의 총액 순위 한 페이지입니다. {@code totalBrands}는 순위에 든 전체 브랜드 수입니다.
+ */
+public record RankedBrandsResponse(
+        int offset,
+        int limit,
+        int totalBrands,
+        List<RankedBrand> brands
+) {
+
+    public record RankedBrand(
+            int rank,
+            String brand,
+            List<CheapestBrandResponse.CategoryPrice> categoryPrices,
+            int total
+    ) {
+
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+
+/**
+ * 상품 일괄 가격 변경 요청입니다. {@code brand}와 {@code category} 중 하나 이상으로 상품을 고르고,
+ * 새 가격({@code price})이나 변경률({@code percent}, 예: -20은 20% 인하) 중 하나를 지정합니다.
+ */
+public record RepriceRequest(
+        String brand,
+        Category category,
+        Integer price,
+        Integer percent
+) {
+
+}
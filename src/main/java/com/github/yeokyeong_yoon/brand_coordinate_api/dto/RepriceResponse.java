@@ -0,0 +1,10 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.dto;
+
+/**
+ * 상품 일괄 가격 변경 결과입니다. {@code repriced}는 가격을 바꾼 상품 수입니다.
+ */
+public record RepriceResponse(
+        int repriced
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.exception;
+
+/**
+ * 클라이언트의 요청 때문에 처리할 수 없을 때 서비스가 던지는 예외의 상위 타입입니다.
+ * <p>
+ * 잘못된 요청은 언제든 많이 들어올 수 있는 예상된 실패이므로 스택 트레이스를 만들지 않습니다. 메시지는 그대로 응답에 담기므로
+ * 사용자가 읽을 수 있는 문장이어야 합니다. 기존 호출부와의 호환을 위해 {@link IllegalArgumentException}을 상속합니다.
+ */
+public abstract class CatalogException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected CatalogException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.exception;
+
+/**
+ * 이미 등록된 브랜드나 상품을 다시 등록하려 할 때 던집니다. 409 Conflict로 응답합니다.
+ */
+public class DuplicateException extends CatalogException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateException(String message) {
+        super(message);
+    }
+}
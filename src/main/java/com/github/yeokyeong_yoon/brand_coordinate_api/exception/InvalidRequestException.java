@@ -0,0 +1,13 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.exception;
+
+/**
+ * 요청 값이 올바르지 않을 때 던집니다. 400 Bad Request로 응답합니다.
+ */
+public class InvalidRequestException extends CatalogException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.exception;
+
+/**
+ * 요청한 브랜드나 상품, 조회할 상품이 없을 때 던집니다. 404 Not Found로 응답합니다.
+ */
+public class NotFoundException extends CatalogException {
+
+    private static final long serialVersionUID = 1L;
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.perf;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("perf")
+@EnableConfigurationProperties(SyntheticCatalogProperties.class)
+public class PerfCatalogConfig {
+}
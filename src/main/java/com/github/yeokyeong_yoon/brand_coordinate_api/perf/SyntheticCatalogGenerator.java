@@ -0,0 +1,142 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.perf;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 시드 기반 합성 카탈로그 생성기입니다.
+ * <p>
+ * 브랜드마다, 카테고리마다 같은 수의 상품을 만들고, 가격은 설정한 분포와 동점 비율을 따릅니다.
+ * 생성 순서와 난수열이 설정에만 의존하므로 같은 설정이면 항상 같은 행이 같은 순서로 나옵니다.
+ * 상품 테이블의 유일 제약에 맞춰, 한 브랜드의 한 카테고리 안에서는 같은 가격이 두 번 나오지 않습니다.
+ */
+public class SyntheticCatalogGenerator {
+
+    static final String CSV_HEADER = "brand,category,price\n";
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final SyntheticCatalogProperties properties;
+
+    public SyntheticCatalogGenerator(SyntheticCatalogProperties properties) {
+        if (properties.getBrands() <= 0 || properties.getProductsPerBrandCategory() <= 0) {
+            throw new IllegalArgumentException("브랜드 수와 카테고리별 상품 수는 1 이상이어야 합니다.");
+        }
+        if (properties.getMinPrice() <= 0 || properties.getMaxPrice() < properties.getMinPrice()
+                || properties.getMaxPrice() > Product.MAX_PRICE || properties.getPriceStep() <= 0) {
+            throw new IllegalArgumentException("가격 범위가 올바르지 않습니다.");
+        }
+        if (properties.getTieRate() < 0.0 || properties.getTieRate() > 1.0) {
+            throw new IllegalArgumentException("동점 비율은 0과 1 사이여야 합니다.");
+        }
+        int prices = (properties.getMaxPrice() - properties.getMinPrice())
+                / properties.getPriceStep() + 1;
+        if (properties.getProductsPerBrandCategory() > prices) {
+            throw new IllegalArgumentException("카테고리별 상품 수가 가격 범위의 가격 수보다 많습니다.");
+        }
+        this.properties = properties;
+    }
+
+    /**
+     * 브랜드 이름 목록입니다. 이름에 순번을 자릿수를 맞춰 붙여, 이름순과 생성 순서가 같습니다.
+     */
+    public List<String> brandNames() {
+        int digits = String.valueOf(properties.getBrands() - 1).length();
+        List<String> names = new ArrayList<>(properties.getBrands());
+        for (int i = 0; i < properties.getBrands(); i++) {
+            names.add("BRAND-" + "0".repeat(digits - String.valueOf(i).length()) + i);
+        }
+        return names;
+    }
+
+    public long productCount() {
+        return (long) properties.getBrands() * CATEGORIES.length
+                * properties.getProductsPerBrandCategory();
+    }
+
+    /**
+     * 상품을 브랜드, 카테고리 순서로 만들어 전달합니다. 브랜드는 {@link #brandNames()}의 위치로 전달됩니다.
+     */
+    public void generateProducts(ProductSink sink) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        int steps = (properties.getMaxPrice() - properties.getMinPrice()) / properties.getPriceStep();
+        int highest = properties.getMinPrice() + steps * properties.getPriceStep();
+        int[] prices = new int[properties.getProductsPerBrandCategory()];
+
+        for (int brand = 0; brand < properties.getBrands(); brand++) {
+            for (Category category : CATEGORIES) {
+                for (int i = 0; i < prices.length; i++) {
+                    int price = nextPrice(random, steps);
+                    // A price already taken in this brand and category moves up one step
+                    // (wrapping) without drawing more random numbers, so later rows are unchanged.
+                    while (contains(prices, i, price)) {
+                        price = price == highest
+                                ? properties.getMinPrice()
+                                : price + properties.getPriceStep();
+                    }
+                    prices[i] = price;
+                    sink.accept(brand, category, price);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(int[] prices, int length, int price) {
+        for (int i = 0; i < length; i++) {
+            if (prices[i] == price) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 상품을 {@code brand,category,price} 형식의 CSV로 씁니다.
+     */
+    public void writeCsv(Writer writer) {
+        List<String> brandNames = brandNames();
+        try {
+            writer.write(CSV_HEADER);
+            generateProducts((brand, category, price) -> {
+                try {
+                    writer.write(csvRow(brandNames.get(brand), category, price));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String csvRow(String brand, Category category, int price) {
+        return brand + "," + category.name() + "," + price + "\n";
+    }
+
+    private int nextPrice(SplittableRandom random, int steps) {
+        // 동점 여부와 가격 두 값을 항상 뽑아, 동점 비율을 바꿔도 나머지 난수열이 밀리지 않게 합니다.
+        double tie = random.nextDouble();
+        double position = random.nextDouble();
+        if (tie < properties.getTieRate()) {
+            return properties.getMinPrice();
+        }
+        if (properties.getDistribution() == SyntheticCatalogProperties.PriceDistribution.SKEWED) {
+            position = position * position * position;
+        }
+        int step = (int) Math.round(position * steps);
+        return properties.getMinPrice() + step * properties.getPriceStep();
+    }
+
+    @FunctionalInterface
+    public interface ProductSink {
+        void accept(int brand, Category category, int price);
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.perf;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code perf} 프로필에서 샘플 데이터 대신 합성 카탈로그를 JDBC 배치로 적재합니다.
+ * <p>
+ * 스키마 초기화가 끝난 뒤, 싱글톤 초기화 단계에서 실행되므로 메모리 인덱스 적재({@code CatalogIndexLoader})보다 항상 먼저 끝납니다.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+public class SyntheticCatalogLoader implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticCatalogProperties properties;
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Catalog already has {} products, skipping synthetic seed", existing);
+            return;
+        }
+
+        long started = System.nanoTime();
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties);
+        List<String> brandNames = generator.brandNames();
+        long[] brandIds = insertBrands(brandNames);
+
+        try (ProductBatch batch = new ProductBatch(brandIds, brandNames)) {
+            generator.generateProducts(batch::add);
+        }
+
+        log.info("Seeded {} brands and {} products (seed={}) in {} ms", brandNames.size(),
+                generator.productCount(), properties.getSeed(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private long[] insertBrands(List<String> brandNames) {
+        List<Object[]> rows = new ArrayList<>(properties.getBatchSize());
+        for (String name : brandNames) {
+            rows.add(new Object[]{name});
+            if (rows.size() == properties.getBatchSize()) {
+                jdbcTemplate.batchUpdate("INSERT INTO brand (name) VALUES (?)", rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO brand (name) VALUES (?)", rows);
+        }
+
+        // IDENTITY 값은 DB가 정하므로, 상품을 넣기 전에 이름으로 한 번에 읽어 옵니다.
+        Map<String, Long> idsByName = new HashMap<>(brandNames.size() * 2);
+        jdbcTemplate.query("SELECT id, name FROM brand",
+                rs -> {
+                    idsByName.put(rs.getString(2), rs.getLong(1));
+                });
+        long[] ids = new long[brandNames.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idsByName.get(brandNames.get(i));
+        }
+        return ids;
+    }
+
+    /**
+     * 상품 행을 모아 배치 크기마다 INSERT하고, 설정된 경우 같은 행을 데이터셋 파일에도 씁니다.
+     */
+    private class ProductBatch implements AutoCloseable {
+
+        private final long[] brandIds;
+        private final List<String> brandNames;
+        private final List<Object[]> rows = new ArrayList<>(properties.getBatchSize());
+        private final BufferedWriter dataset;
+
+        ProductBatch(long[] brandIds, List<String> brandNames) throws IOException {
+            this.brandIds = brandIds;
+            this.brandNames = brandNames;
+            if (properties.getDatasetFile() == null) {
+                this.dataset = null;
+            } else {
+                Path path = Path.of(properties.getDatasetFile());
+                this.dataset = Files.newBufferedWriter(path);
+                this.dataset.write(SyntheticCatalogGenerator.CSV_HEADER);
+                log.info("Writing synthetic dataset to {}", path.toAbsolutePath());
+            }
+        }
+
+        void add(int brand, Category category, int price) {
+            rows.add(new Object[]{brandIds[brand], category.name(), price});
+            if (rows.size() == properties.getBatchSize()) {
+                flush();
+            }
+            if (dataset != null) {
+                try {
+                    dataset.write(SyntheticCatalogGenerator.csvRow(brandNames.get(brand), category,
+                            price));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        private void flush() {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO product (brand_id, category, price) VALUES (?, ?, ?)", rows);
+            rows.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!rows.isEmpty()) {
+                flush();
+            }
+            if (dataset != null) {
+                dataset.close();
+            }
+        }
+    }
+}
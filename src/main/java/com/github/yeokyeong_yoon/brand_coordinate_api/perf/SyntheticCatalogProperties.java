@@ -0,0 +1,47 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.perf;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 합성 카탈로그 설정입니다. 같은 설정이면 항상 같은 카탈로그가 만들어집니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.synthetic")
+public class SyntheticCatalogProperties {
+
+    private long seed = 42L;
+
+    private int brands = 10_000;
+
+    private int productsPerBrandCategory = 10;
+
+    private int minPrice = 1_000;
+
+    private int maxPrice = 100_000;
+
+    private int priceStep = 100;
+
+    private PriceDistribution distribution = PriceDistribution.UNIFORM;
+
+    /**
+     * 상품 가격을 카테고리 최저가({@code minPrice})로 고정할 확률입니다. 최저가 동점 브랜드 수를 조절합니다.
+     */
+    private double tieRate = 0.0;
+
+    private int batchSize = 5_000;
+
+    /**
+     * 지정하면 적재한 상품을 {@code brand,category,price} 형식의 CSV 파일로도 씁니다.
+     */
+    private String datasetFile;
+
+    public enum PriceDistribution {
+        /** 최저가와 최고가 사이에 고르게 분포합니다. */
+        UNIFORM,
+        /** 낮은 가격대에 몰리고 비싼 상품은 드문 분포입니다. */
+        SKEWED
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+/**
+ * 현재 요청이 복제본에서 읽으려면 복제본이 따라잡아야 하는 최소 카탈로그 버전입니다.
+ * <p>
+ * {@link ReadYourWritesFilter}가 쿠키에서 읽어 요청을 시작할 때 정하고 끝날 때 지웁니다. 요청 스레드 밖에서는
+ * 항상 0입니다.
+ */
+final class ReadYourWrites {
+
+    static final String COOKIE = "catalog-version";
+
+    private static final ThreadLocal<Long> REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void require(long version) {
+        REQUIRED.set(version);
+    }
+
+    static void clear() {
+        REQUIRED.remove();
+    }
+
+    static long required() {
+        Long version = REQUIRED.get();
+        return version == null ? 0 : version;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@code replica} 프로필에서 운영자 쓰기 응답에 커밋된 카탈로그 버전을 쿠키로 붙입니다.
+ * <p>
+ * 서비스 트랜잭션은 컨트롤러가 돌아오기 전에 커밋되고 버전도 그때 오르므로, 본문을 쓰기 직전의 현재 버전에는 이 요청의
+ * 쓰기가 들어 있습니다. 같은 세션의 다음 운영자 조회는 복제본이 이 버전까지 따라잡기 전까지 프라이머리에서 읽습니다.
+ */
+@ControllerAdvice
+@Profile("replica")
+@RequiredArgsConstructor
+public class ReadYourWritesAdvice implements ResponseBodyAdvice<Object> {
+
+    private final CatalogVersion catalogVersion;
+    private final ReplicaProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isReadYourWrites();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        if (!HttpMethod.GET.equals(request.getMethod())
+                && !HttpMethod.HEAD.equals(request.getMethod())
+                && request instanceof ServletServerHttpRequest servletRequest
+                && isAdmin(servletRequest.getServletRequest())) {
+            String contextPath = servletRequest.getServletRequest().getContextPath();
+            ResponseCookie cookie = ResponseCookie.from(ReadYourWrites.COOKIE,
+                            catalogVersion.epoch() + "-" + catalogVersion.current())
+                    .path(contextPath + ReadYourWritesFilter.ADMIN_PREFIX)
+                    .httpOnly(true)
+                    .sameSite("Strict")
+                    .build();
+            response.getHeaders().add(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        return body;
+    }
+
+    private static boolean isAdmin(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length())
+                .startsWith(ReadYourWritesFilter.ADMIN_PREFIX);
+    }
+}
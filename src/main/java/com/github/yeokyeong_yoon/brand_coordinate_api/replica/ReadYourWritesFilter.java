@@ -0,0 +1,70 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * {@code replica} 프로필에서 운영자 요청에 붙은 카탈로그 버전 쿠키를 {@link ReadYourWrites}로 옮깁니다.
+ * <p>
+ * 쿠키는 {@link ReadYourWritesAdvice}가 운영자 쓰기 응답에 붙입니다. 다른 프로세스가 만든 쿠키는 버전을 비교할 수
+ * 없으므로 무시합니다.
+ */
+@Component
+@Profile("replica")
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String ADMIN_PREFIX = "/api/admin/";
+
+    private final CatalogVersion catalogVersion;
+    private final ReplicaProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isReadYourWrites() || request.getCookies() == null
+                || !request.getRequestURI().substring(request.getContextPath().length())
+                .startsWith(ADMIN_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long required = required(request.getCookies());
+        if (required <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ReadYourWrites.require(required);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private long required(Cookie[] cookies) {
+        String prefix = catalogVersion.epoch() + "-";
+        for (Cookie cookie : cookies) {
+            String value = cookie.getValue();
+            if (ReadYourWrites.COOKIE.equals(cookie.getName()) && value != null
+                    && value.startsWith(prefix)) {
+                try {
+                    return Long.parseLong(value.substring(prefix.length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
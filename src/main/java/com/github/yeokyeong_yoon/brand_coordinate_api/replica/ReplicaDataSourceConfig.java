@@ -0,0 +1,76 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * {@code replica} 프로필에서 읽기 전용 트랜잭션은 복제본 풀로, 나머지는 프라이머리 풀로 보내는 데이터소스를 만듭니다.
+ * <p>
+ * JPA와 JDBC가 쓰는 데이터소스는 실제 연결을 첫 SQL까지 미루므로, 트랜잭션의 {@code readOnly} 표시를 보고 풀을 고를 수
+ * 있습니다. 읽기 전용 연결은 {@link ReplicaLag}이 복제본이 충분히 최신일 때만 복제본에서 꺼냅니다.
+ */
+@Configuration
+@Profile("replica")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary,
+            ReplicaProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLag replicaLag(CatalogVersion catalogVersion, ReplicaProperties properties) {
+        return new ReplicaLag(catalogVersion, properties.getMaxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, ReplicaLag replicaLag) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica,
+                replicaLag));
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaSynchronizer replicaSynchronizer(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, CatalogVersion catalogVersion,
+            ReplicaLag replicaLag, ReplicaProperties properties) {
+        return new ReplicaSynchronizer(primary, replica, catalogVersion, replicaLag, properties);
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 복제본에 반영된 카탈로그 버전을 들고, 읽기 전용 트랜잭션을 복제본과 프라이머리 중 어디로 보낼지 정합니다.
+ * <p>
+ * 카탈로그 버전은 커밋된 운영자 쓰기마다 1씩 오르므로, 현재 버전과 복제본 버전의 차이가 복제본이 놓친 쓰기 수입니다.
+ * 복제본을 한 번도 채우지 못했거나, 차이가 {@code maxLag}를 넘거나, 요청이 더 새 버전을 요구하면 프라이머리로 보냅니다.
+ */
+public class ReplicaLag implements MeterBinder {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final CatalogVersion catalogVersion;
+    private final long maxLag;
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    private volatile long syncedVersion = -1;
+
+    public ReplicaLag(CatalogVersion catalogVersion, long maxLag) {
+        if (maxLag < 0) {
+            throw new IllegalArgumentException("catalog.replica.max-lag는 0 이상이어야 합니다.");
+        }
+        this.catalogVersion = catalogVersion;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * 복제본 데이터가 이 버전까지의 쓰기를 모두 담고 있음을 기록합니다.
+     */
+    void synced(long version) {
+        syncedVersion = version;
+    }
+
+    /**
+     * 복제본에 반영된 카탈로그 버전입니다. 한 번도 채우지 못했으면 -1입니다.
+     */
+    public long syncedVersion() {
+        return syncedVersion;
+    }
+
+    /**
+     * 복제본이 놓친 카탈로그 쓰기 수입니다. 한 번도 채우지 못했으면 -1입니다.
+     */
+    public long lag() {
+        long synced = syncedVersion;
+        return synced < 0 ? -1 : Math.max(0, catalogVersion.current() - synced);
+    }
+
+    Target route() {
+        long synced = syncedVersion;
+        if (synced >= 0 && synced >= ReadYourWrites.required()
+                && catalogVersion.current() - synced <= maxLag) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        primaryReads.increment();
+        return Target.PRIMARY;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.replica.lag", this, ReplicaLag::lag)
+                .description("복제본이 아직 반영하지 못한 카탈로그 버전 수(-1은 아직 채우지 못함)")
+                .register(registry);
+        FunctionCounter.builder("catalog.replica.reads", replicaReads, LongAdder::sum)
+                .description("읽기 전용 트랜잭션이 연결을 가져간 DB")
+                .tag("target", "replica")
+                .register(registry);
+        FunctionCounter.builder("catalog.replica.reads", primaryReads, LongAdder::sum)
+                .description("읽기 전용 트랜잭션이 연결을 가져간 DB")
+                .tag("target", "primary")
+                .register(registry);
+    }
+}
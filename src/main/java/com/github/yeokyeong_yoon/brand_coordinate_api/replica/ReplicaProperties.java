@@ -0,0 +1,46 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * {@code replica} 프로필에서 읽기 전용 트랜잭션을 보낼 복제본 DB 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.replica")
+public class ReplicaProperties {
+
+    /**
+     * 복제본 JDBC URL입니다. 드라이버는 {@code spring.datasource}와 같은 것을 씁니다.
+     */
+    private String url = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /**
+     * 복제본 연결 풀 크기입니다. 조회가 대부분이므로 프라이머리 풀보다 크게 잡습니다.
+     */
+    private int maximumPoolSize = 16;
+
+    /**
+     * 카탈로그 버전이 바뀌었는지 확인해 복제본을 다시 채우는 간격입니다.
+     */
+    private Duration syncInterval = Duration.ofMillis(100);
+
+    /**
+     * 복제본이 현재 카탈로그 버전보다 이만큼 넘게 뒤처지면 읽기 전용 트랜잭션도 프라이머리에서 읽습니다.
+     */
+    private long maxLag = 10;
+
+    /**
+     * 켜면 운영자 쓰기 응답에 커밋된 카탈로그 버전을 쿠키로 내려주고, 그 쿠키가 붙은 운영자 조회는 복제본이 그 버전까지
+     * 따라잡았을 때만 복제본에서 읽습니다.
+     */
+    private boolean readYourWrites = true;
+}
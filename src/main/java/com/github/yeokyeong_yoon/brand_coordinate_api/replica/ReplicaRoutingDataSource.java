@@ -0,0 +1,28 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션이 쓰는 데이터소스입니다. 연결을 가져갈 때마다 {@link ReplicaLag}이 정한 쪽의 풀에서 꺼냅니다.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLag replicaLag;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLag replicaLag) {
+        this.replicaLag = replicaLag;
+        setTargetDataSources(Map.of(ReplicaLag.Target.PRIMARY, primary,
+                ReplicaLag.Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaLag.route();
+    }
+}
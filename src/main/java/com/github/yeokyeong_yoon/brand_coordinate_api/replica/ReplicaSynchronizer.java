@@ -0,0 +1,138 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬에서 DB 복제를 대신해 복제본 H2를 프라이머리와 맞춥니다.
+ * <p>
+ * 기동할 때 복제본에 {@code schema.sql}을 적용하고 한 번 채운 뒤, {@code sync-interval}마다 카탈로그 버전이 바뀌었는지
+ * 확인합니다. 바뀌었으면 버전을 먼저 읽고, 프라이머리의 한 시점 스냅숏에서 브랜드와 상품을 읽어 복제본의 한 트랜잭션에서
+ * 통째로 바꿉니다. 버전은 커밋 뒤에 오르므로 읽은 행은 그 버전까지의 쓰기를 모두 담고 있고, 커밋이 끝나야
+ * {@link ReplicaLag}에 그 버전을 기록합니다. 실제 복제를 쓰는 환경에서는 이 클래스 대신 복제된 버전을 읽어
+ * {@link ReplicaLag#synced(long)}을 부르는 쪽이 필요합니다.
+ */
+@Slf4j
+public class ReplicaSynchronizer implements SmartInitializingSingleton, DisposableBean {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final CatalogVersion catalogVersion;
+    private final ReplicaLag replicaLag;
+    private final long intervalMillis;
+    private final ScheduledExecutorService executor;
+
+    public ReplicaSynchronizer(DataSource primary, DataSource replica,
+            CatalogVersion catalogVersion, ReplicaLag replicaLag, ReplicaProperties properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.catalogVersion = catalogVersion;
+        this.replicaLag = replicaLag;
+        this.intervalMillis = properties.getSyncInterval().toMillis();
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("catalog.replica.sync-interval은 1ms 이상이어야 합니다.");
+        }
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "catalog-replica-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(replica);
+        syncQuietly();
+        executor.scheduleWithFixedDelay(this::syncQuietly, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 복제본 버전이 현재 카탈로그 버전과 다르면 프라이머리의 행으로 복제본을 다시 채웁니다.
+     */
+    public synchronized void sync() throws SQLException {
+        long version = catalogVersion.current();
+        if (version == replicaLag.syncedVersion()) {
+            return;
+        }
+        try (Connection source = primary.getConnection();
+                Connection target = replica.getConnection()) {
+            // Brands and products must come from one snapshot or a product may miss its brand.
+            source.setReadOnly(true);
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            target.setAutoCommit(false);
+            try {
+                try (Statement statement = target.createStatement()) {
+                    statement.executeUpdate("DELETE FROM product");
+                    statement.executeUpdate("DELETE FROM brand");
+                }
+                copy(source, target, "SELECT id, name FROM brand",
+                        "INSERT INTO brand (id, name) VALUES (?, ?)", 2);
+                copy(source, target, "SELECT id, brand_id, category, price FROM product",
+                        "INSERT INTO product (id, brand_id, category, price) VALUES (?, ?, ?, ?)",
+                        4);
+                target.commit();
+            } catch (SQLException | RuntimeException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                source.rollback();
+            }
+        }
+        replicaLag.synced(version);
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (SQLException | RuntimeException e) {
+            // Reads fall back to the primary once the lag passes max-lag; the next tick retries.
+            log.warn("Failed to sync catalog replica; {} versions behind", replicaLag.lag(), e);
+        }
+    }
+
+    private static void copy(Connection source, Connection target, String select, String insert,
+            int columns) throws SQLException {
+        try (Statement query = source.createStatement();
+                ResultSet rows = query.executeQuery(select);
+                PreparedStatement statement = target.prepareStatement(insert)) {
+            int pending = 0;
+            while (rows.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    statement.setObject(i, rows.getObject(i));
+                }
+                statement.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
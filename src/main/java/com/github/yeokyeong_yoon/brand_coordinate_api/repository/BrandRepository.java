@@ -2,8 +2,13 @@ package com.github.yeokyeong_yoon.brand_coordinate_api.repository;
 
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,11 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
     Optional<Brand> findByName(String name);
 
     boolean existsByName(String name);
+
+    List<Brand> findByNameIn(Collection<String> names);
+
+    // Bulk delete without loading the entity first; returns 0 when the brand does not exist
+    @Modifying
+    @Query("delete from Brand b where b.id = :id")
+    int deleteBrandById(@Param("id") Long id);
 }
@@ -0,0 +1,14 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.repository;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+
+/**
+ * 카테고리별 최저가와 최고가 집계 결과입니다.
+ */
+public record CategoryPriceRange(
+        Category category,
+        int minPrice,
+        int maxPrice
+) {
+
+}
@@ -0,0 +1,26 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.repository;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+
+/**
+ * 조회 전용 상품 모델입니다. 브랜드 엔티티 대신 JOIN으로 가져온 브랜드 ID와 이름만 담습니다.
+ */
+public record ProductPriceView(
+        Long id,
+        Long brandId,
+        String brandName,
+        Category category,
+        int price
+) {
+
+    public static ProductPriceView of(Product product) {
+        return new ProductPriceView(
+                product.getId(),
+                product.getBrand().getId(),
+                product.getBrand().getName(),
+                product.getCategory(),
+                product.getPrice()
+        );
+    }
+}
@@ -3,11 +3,20 @@ package com.github.yeokyeong_yoon.brand_coordinate_api.repository;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -22,19 +31,133 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     Optional<Product> findFirstByCategoryOrderByPriceDesc(Category category);
 
-    boolean existsByBrandAndCategoryAndPrice(Brand brand, Category category, int price);
+    // Duplicate check and insert in one statement: the new id, or empty if the product exists.
+    // A concurrent insert of the same product still fails on uk_product_brand_category_price.
+    @Query(nativeQuery = true, value = """
+            select id from final table (
+                merge into product p
+                using (values (cast(:brandId as bigint), cast(:category as varchar(50)),
+                        cast(:price as int))) s (brand_id, category, price)
+                on p.brand_id = s.brand_id and p.category = s.category and p.price = s.price
+                when not matched then
+                    insert (brand_id, category, price) values (s.brand_id, s.category, s.price))
+            """)
+    Optional<Long> insertIfAbsent(@Param("brandId") Long brandId,
+            @Param("category") String category, @Param("price") int price);
 
     List<Product> findByCategoryIn(List<Category> categories);
 
-    default List<Product> findPriceRangeProductsByCategory(Category category) {
-        List<Integer> priceRange = List.of(
-                findFirstByCategoryOrderByPriceAsc(category).map(Product::getPrice)
-                        .orElse(Integer.MAX_VALUE),
-                findFirstByCategoryOrderByPriceDesc(category).map(Product::getPrice)
-                        .orElse(Integer.MIN_VALUE)
-        );
-        return findByCategoryAndPriceIn(category, priceRange);
-    }
+    // Read projections: brand name comes from the join, so no brand entity is loaded per row.
+    // Keyset page: rows after the cursor id in id order, so every page is an index range scan on the primary key.
+    // A null filter matches every row.
+    @Query("""
+            select new com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView(
+                p.id, b.id, b.name, p.category, p.price)
+            from Product p join p.brand b
+            where p.id > :after
+              and (:brand is null or b.name = :brand)
+              and (:category is null or p.category = :category)
+              and (:minPrice is null or p.price >= :minPrice)
+              and (:maxPrice is null or p.price <= :maxPrice)
+            order by p.id
+            """)
+    List<ProductPriceView> findPriceViewsAfter(@Param("after") long after,
+            @Param("brand") String brand, @Param("category") Category category,
+            @Param("minPrice") Integer minPrice, @Param("maxPrice") Integer maxPrice, Limit limit);
+
+    // Same filters as findPriceViewsAfter, read as a stream of projections so nothing piles up in the persistence context
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView(
+                p.id, b.id, b.name, p.category, p.price)
+            from Product p join p.brand b
+            where (:brand is null or b.name = :brand)
+              and (:category is null or p.category = :category)
+              and (:minPrice is null or p.price >= :minPrice)
+              and (:maxPrice is null or p.price <= :maxPrice)
+            order by p.id
+            """)
+    Stream<ProductPriceView> streamPriceViews(@Param("brand") String brand,
+            @Param("category") Category category, @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice);
+
+    // Rows at the min or max price of a category, in one statement on idx_product_category_price
+    @Query("""
+            select new com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView(
+                p.id, b.id, b.name, p.category, p.price)
+            from Product p join p.brand b
+            where p.category = :category
+              and (p.price = (select min(p2.price) from Product p2 where p2.category = :category)
+                or p.price = (select max(p3.price) from Product p3 where p3.category = :category))
+            """)
+    List<ProductPriceView> findPriceRangeViewsByCategory(@Param("category") Category category);
+
+    // Rows at the lowest price of their category, for every category in one statement
+    @Query("""
+            select new com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView(
+                p.id, b.id, b.name, p.category, p.price)
+            from Product p join p.brand b
+            where p.price = (select min(p2.price) from Product p2 where p2.category = p.category)
+            """)
+    List<ProductPriceView> findLowestPricedViews();
+
+    @Query("""
+            select new com.github.yeokyeong_yoon.brand_coordinate_api.repository.CategoryPriceRange(
+                p.category, min(p.price), max(p.price))
+            from Product p
+            group by p.category
+            """)
+    List<CategoryPriceRange> findPriceRanges();
+
+    // Candidates for a set-wise duplicate check: every product of the given brands at one of the given prices
+    @Query("""
+            select new com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView(
+                p.id, b.id, b.name, p.category, p.price)
+            from Product p join p.brand b
+            where b.id in :brandIds and p.price in :prices
+            """)
+    List<ProductPriceView> findPriceViewsByBrandIdsAndPrices(
+            @Param("brandIds") Collection<Long> brandIds,
+            @Param("prices") Collection<Integer> prices);
+
+    // Removes every product of a brand in one statement, ahead of deleting the brand row itself
+    @Modifying
+    @Query("delete from Product p where p.brand.id = :brandId")
+    int deleteByBrandId(@Param("brandId") Long brandId);
+
+    // Repricing runs as two updates. H2 checks uk_product_brand_category_price row by row, so a
+    // shift such as 1000 -> 1100 while 1100 -> 1210 would fail mid-statement. The first update
+    // writes the new prices negated, where no committed price lives; the second flips them back.
+    // A null filter matches every row.
+    @Modifying
+    @Query("""
+            update Product p set p.price = 0 - :price
+            where (:brandId is null or p.brand.id = :brandId)
+              and (:category is null or p.category = :category)
+            """)
+    int stagePrice(@Param("brandId") Long brandId, @Param("category") Category category,
+            @Param("price") int price);
+
+    // Rounds half up and never goes below 1; the product is computed in bigint so it cannot wrap.
+    @Modifying
+    @Query("""
+            update Product p
+            set p.price = 0 - cast(
+                    greatest(1, (cast(p.price as Long) * (100 + :percent) + 50) / 100) as Integer)
+            where (:brandId is null or p.brand.id = :brandId)
+              and (:category is null or p.category = :category)
+            """)
+    int stagePriceByPercent(@Param("brandId") Long brandId, @Param("category") Category category,
+            @Param("percent") int percent);
+
+    @Modifying
+    @Query("""
+            update Product p set p.price = 0 - p.price
+            where p.price < 0
+              and (:brandId is null or p.brand.id = :brandId)
+              and (:category is null or p.category = :category)
+            """)
+    int publishStagedPrices(@Param("brandId") Long brandId, @Param("category") Category category);
 
     // Get all products in a category sorted by price
     List<Product> findByCategoryOrderByPriceAsc(Category category);
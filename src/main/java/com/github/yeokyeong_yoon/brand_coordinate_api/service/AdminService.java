@@ -1,42 +1,74 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.AfterCommit;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEvent;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.BrandRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductPageResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductSearchRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RepriceRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RepriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.DuplicateException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.NotFoundException;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 운영자를 위한 브랜드와 상품 관리 서비스입니다.
  */
 @Slf4j
 @Service
+@Timed("catalog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AdminService {
 
+    static final int MAX_PAGE_SIZE = 1_000;
+    static final int MIN_PERCENT = -99;
+    static final int MAX_PERCENT = 1_000;
+
     private final BrandRepository brandRepository;
     private final ProductRepository productRepository;
+    private final ProductColumns productColumns;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandPriceMatrix brandPriceMatrix;
+    private final PriceRangeCache priceRangeCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogEventBus catalogEventBus;
+    private final BrandService brandService;
 
     /**
-     * 새로운 브랜드를 등록합니다.
+     * 새로운 브랜드를 등록합니다. 구현은 {@link BrandService#registerBrand(String)} 하나입니다.
      */
     @Transactional
     public Brand registerBrand(BrandRequest request) {
-        if (brandRepository.existsByName(request.name())) {
-            throw new IllegalArgumentException("이미 등록된 브랜드입니다: " + request.name());
-        }
-
-        Brand brand = new Brand();
-        brand.setName(request.name());
-        return brandRepository.save(brand);
+        return brandService.registerBrand(request.name());
     }
 
     /**
@@ -45,26 +77,34 @@ public class AdminService {
     @Transactional
     public Brand updateBrand(Long brandId, BrandRequest request) {
         Brand brand = brandRepository.findById(brandId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 브랜드입니다: " + brandId));
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 브랜드입니다: " + brandId));
 
         if (!brand.getName().equals(request.name()) && brandRepository.existsByName(
                 request.name())) {
-            throw new IllegalArgumentException("이미 등록된 브랜드입니다: " + request.name());
+            throw new DuplicateException("이미 등록된 브랜드입니다: " + request.name());
         }
 
+        String previousName = brand.getName();
         brand.setName(request.name());
-        return brandRepository.save(brand);
+        Brand savedBrand = brandRepository.save(brand);
+        AfterCommit.run(() -> {
+            catalogVersion.update(() -> {
+                productColumns.renameBrand(brandId, request.name());
+                categoryPriceIndex.renameBrand(brandId, request.name());
+                brandPriceMatrix.renameBrand(brandId, request.name());
+                priceRangeCache.onBrandRenamed(previousName);
+                catalogEventBus.publish(new CatalogEvent.BrandRenamed(brandId, request.name()));
+            });
+        });
+        return savedBrand;
     }
 
     /**
-     * 브랜드를 삭제합니다.
+     * 브랜드와 그 브랜드의 모든 상품을 한 트랜잭션에서 삭제합니다. 구현은 {@link BrandService#deleteBrand(Long)} 하나입니다.
      */
     @Transactional
     public void deleteBrand(Long brandId) {
-        if (!brandRepository.existsById(brandId)) {
-            throw new IllegalArgumentException("Brand not found with id: " + brandId);
-        }
-        brandRepository.deleteById(brandId);
+        brandService.deleteBrand(brandId);
     }
 
     /**
@@ -72,57 +112,220 @@ public class AdminService {
      */
     @Transactional
     public Product registerProduct(ProductRequest request) {
-        log.info("Registering product with request: {}", request);
+        log.debug("Registering product with request: {}", request);
+        ProductPrices.validate(request.price());
 
         log.debug("Finding brand by name: {}", request.brand());
         Brand brand = brandRepository.findByName(request.brand())
                 .orElseThrow(() -> {
-                    log.error("Brand not found with name: {}", request.brand());
-                    return new IllegalArgumentException("브랜드를 찾을 수 없습니다: " + request.brand());
+                    log.debug("Brand not found with name: {}", request.brand());
+                    return new NotFoundException("브랜드를 찾을 수 없습니다: " + request.brand());
                 });
         log.debug("Found brand: {}", brand);
 
-        // Check for duplicate product
-        log.debug("Checking for duplicate product...");
-        if (productRepository.existsByBrandAndCategoryAndPrice(brand, request.category(),
-                request.price())) {
-            String errorMsg = String.format("이미 등록된 상품입니다: 브랜드=%s, 카테고리=%s, 가격=%d",
-                    request.brand(), request.category(), request.price());
-            log.error(errorMsg);
-            throw new IllegalArgumentException(errorMsg);
+        // The unique constraint decides duplicates: one MERGE both checks and inserts
+        log.debug("Inserting product unless it already exists...");
+        Long productId;
+        try {
+            productId = productRepository.insertIfAbsent(brand.getId(), request.category().name(),
+                    request.price()).orElseThrow(() -> ProductConflicts.duplicate(
+                            request.brand(), request.category(), request.price()));
+        } catch (DataIntegrityViolationException e) {
+            throw ProductConflicts.translate(e, request.brand(), request.category(),
+                    request.price());
         }
 
-        log.debug("Creating new product...");
-        Product product = new Product();
-        product.setBrand(brand);
-        product.setCategory(request.category());
-        product.setPrice(request.price());
-
-        log.debug("Saving product: {}", product);
-        Product savedProduct = productRepository.save(product);
-        log.info("Successfully registered product: {}", savedProduct);
+        Product savedProduct = new Product();
+        savedProduct.setId(productId);
+        savedProduct.setBrand(brand);
+        savedProduct.setCategory(request.category());
+        savedProduct.setPrice(request.price());
+        log.debug("Successfully registered product: {}", savedProduct);
+        AfterCommit.run(() -> {
+            catalogVersion.update(() -> {
+                productColumns.add(brand.getId(), brand.getName(), request.category(),
+                        request.price());
+                categoryPriceIndex.add(brand.getId(), brand.getName(), request.category(),
+                        request.price());
+                brandPriceMatrix.add(brand.getId(), brand.getName(), request.category(),
+                        request.price());
+                priceRangeCache.onProductAdded(request.category(), request.price());
+                catalogEventBus.publish(new CatalogEvent.ProductAdded(savedProduct.getId(),
+                        brand.getId(), brand.getName(), request.category(), request.price()));
+            });
+        });
 
         return savedProduct;
     }
 
     /**
-     * 상품 정보를 수정합니다.
+     * 상품 정보를 수정합니다. 같은 브랜드, 카테고리, 가격의 다른 상품과 겹치면 중복 오류를 던집니다.
      */
     @Transactional
     public Product updateProduct(Long productId, ProductRequest request) {
+        ProductPrices.validate(request.price());
         Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException(
+                .orElseThrow(() -> new NotFoundException(
                         "Product not found with id: " + productId));
 
         Brand brand = brandRepository.findByName(request.brand())
-                .orElseThrow(() -> new IllegalArgumentException(
+                .orElseThrow(() -> new NotFoundException(
                         "Brand not found with name: " + request.brand()));
 
+        Long previousBrandId = product.getBrand().getId();
+        Category previousCategory = product.getCategory();
+        int previousPrice = product.getPrice();
+
         product.setBrand(brand);
         product.setCategory(request.category());
         product.setPrice(request.price());
 
-        return productRepository.save(product);
+        Product savedProduct;
+        try {
+            // Flushes here so the unique constraint fails inside this method rather than at commit
+            savedProduct = productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException e) {
+            throw ProductConflicts.translate(e, request.brand(), request.category(),
+                    request.price());
+        }
+        AfterCommit.run(() -> {
+            catalogVersion.update(() -> {
+                productColumns.remove(previousBrandId, previousCategory, previousPrice);
+                productColumns.add(brand.getId(), brand.getName(), request.category(),
+                        request.price());
+                categoryPriceIndex.remove(previousBrandId, previousCategory, previousPrice);
+                categoryPriceIndex.add(brand.getId(), brand.getName(), request.category(),
+                        request.price());
+                brandPriceMatrix.remove(previousBrandId, previousCategory, previousPrice);
+                brandPriceMatrix.add(brand.getId(), brand.getName(), request.category(),
+                        request.price());
+                priceRangeCache.onProductRemoved(previousCategory, previousPrice);
+                priceRangeCache.onProductAdded(request.category(), request.price());
+                publishUpdate(productId, previousBrandId, previousCategory, previousPrice, brand,
+                        request);
+            });
+        });
+        return savedProduct;
+    }
+
+    /**
+     * 브랜드나 카테고리, 또는 둘 다로 고른 상품의 가격을 한꺼번에 바꿉니다.
+     * <p>
+     * DB에는 상품 수와 상관없이 UPDATE 두 번으로 쓰고, 커밋 뒤 메모리 카탈로그는 한 번의 갱신으로 바꿉니다. 그래서 카탈로그
+     * 버전 증가와 캐시 무효화도 한 번입니다. 바뀐 가격이 같은 브랜드와 카테고리의 다른 상품과 겹치면 아무것도 바꾸지 않고
+     * 중복 오류를 던지고, 가격 상한을 넘는 상품이 생기면 UPDATE 전에 거절합니다. 새 가격은 이전 가격만으로 정해지므로
+     * 대상 상품은 UPDATE 전에 한 번만 읽습니다.
+     */
+    @Transactional
+    public RepriceResponse repriceProducts(RepriceRequest request) {
+        validate(request);
+        Long brandId = null;
+        if (request.brand() != null) {
+            brandId = brandRepository.findByName(request.brand())
+                    .orElseThrow(() -> new NotFoundException("브랜드를 찾을 수 없습니다: " + request.brand()))
+                    .getId();
+        }
+        Category category = request.category();
+
+        List<ProductPriceView> before = priceViews(request);
+        if (before.isEmpty()) {
+            return new RepriceResponse(0);
+        }
+        int highest = before.stream().mapToInt(ProductPriceView::price).max().orElseThrow();
+        if (repriced(highest, request) > Product.MAX_PRICE) {
+            throw new InvalidRequestException(String.format(
+                    "변경률을 적용하면 가격이 %,d원을 넘는 상품이 있습니다.", Product.MAX_PRICE));
+        }
+        try {
+            if (request.price() != null) {
+                productRepository.stagePrice(brandId, category, request.price());
+            } else {
+                productRepository.stagePriceByPercent(brandId, category, request.percent());
+            }
+            productRepository.publishStagedPrices(brandId, category);
+        } catch (DataIntegrityViolationException e) {
+            if (ProductConflicts.isUniqueViolation(e)) {
+                throw new DuplicateException(
+                        "가격을 바꾸면 같은 브랜드, 카테고리, 가격의 상품이 생깁니다.");
+            }
+            throw e;
+        }
+
+        // The new price depends only on the old one, so one map reprices the in-memory rows.
+        Map<Integer, Integer> newPrices = new HashMap<>();
+        List<CatalogEvent> events = new ArrayList<>(before.size());
+        for (ProductPriceView product : before) {
+            int price = (int) repriced(product.price(), request);
+            if (price == product.price()) {
+                continue;
+            }
+            newPrices.put(product.price(), price);
+            events.add(new CatalogEvent.PriceChanged(product.id(), product.brandId(),
+                    product.brandName(), product.category(), product.price(), price));
+        }
+
+        Long repricedBrandId = brandId;
+        AfterCommit.run(() -> {
+            catalogVersion.update(() -> {
+                productColumns.reprice(repricedBrandId, category, newPrices);
+                categoryPriceIndex.reload();
+                brandPriceMatrix.reload();
+                if (category != null) {
+                    priceRangeCache.invalidate(category);
+                } else {
+                    priceRangeCache.invalidateAll();
+                }
+                catalogEventBus.publishAll(events);
+            });
+        });
+        return new RepriceResponse(events.size());
+    }
+
+    private static void validate(RepriceRequest request) {
+        if (request.brand() == null && request.category() == null) {
+            throw new InvalidRequestException("브랜드나 카테고리 중 하나 이상을 지정해야 합니다.");
+        }
+        if ((request.price() == null) == (request.percent() == null)) {
+            throw new InvalidRequestException("가격(price)과 변경률(percent) 중 하나만 지정해야 합니다.");
+        }
+        if (request.price() != null) {
+            ProductPrices.validate(request.price());
+        }
+        if (request.percent() != null
+                && (request.percent() < MIN_PERCENT || request.percent() > MAX_PERCENT)) {
+            throw new InvalidRequestException(String.format(
+                    "변경률은 %d 이상 %d 이하여야 합니다.", MIN_PERCENT, MAX_PERCENT));
+        }
+    }
+
+    /**
+     * {@link ProductRepository#stagePriceByPercent}와 같은 계산(반올림, 최소 1원)으로 구한 새 가격입니다.
+     */
+    private static long repriced(int price, RepriceRequest request) {
+        if (request.price() != null) {
+            return request.price();
+        }
+        return Math.max(1, ((long) price * (100 + request.percent()) + 50) / 100);
+    }
+
+    private List<ProductPriceView> priceViews(RepriceRequest request) {
+        try (Stream<ProductPriceView> products = productRepository.streamPriceViews(
+                request.brand(), request.category(), null, null)) {
+            return products.toList();
+        }
+    }
+
+    private void publishUpdate(Long productId, Long previousBrandId, Category previousCategory,
+            int previousPrice, Brand brand, ProductRequest request) {
+        if (previousBrandId.equals(brand.getId()) && previousCategory == request.category()) {
+            catalogEventBus.publish(new CatalogEvent.PriceChanged(productId, brand.getId(),
+                    brand.getName(), request.category(), previousPrice, request.price()));
+            return;
+        }
+        catalogEventBus.publish(new CatalogEvent.ProductRemoved(productId, previousBrandId,
+                previousCategory, previousPrice));
+        catalogEventBus.publish(new CatalogEvent.ProductAdded(productId, brand.getId(),
+                brand.getName(), request.category(), request.price()));
     }
 
     /**
@@ -130,10 +333,24 @@ public class AdminService {
      */
     @Transactional
     public void deleteProduct(Long productId) {
-        if (!productRepository.existsById(productId)) {
-            throw new IllegalArgumentException("Product not found with id: " + productId);
-        }
-        productRepository.deleteById(productId);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new NotFoundException(
+                        "Product not found with id: " + productId));
+        productRepository.delete(product);
+
+        Long brandId = product.getBrand().getId();
+        Category category = product.getCategory();
+        int price = product.getPrice();
+        AfterCommit.run(() -> {
+            catalogVersion.update(() -> {
+                productColumns.remove(brandId, category, price);
+                categoryPriceIndex.remove(brandId, category, price);
+                brandPriceMatrix.remove(brandId, category, price);
+                priceRangeCache.onProductRemoved(category, price);
+                catalogEventBus.publish(new CatalogEvent.ProductRemoved(productId, brandId,
+                        category, price));
+            });
+        });
     }
 
     /**
@@ -145,10 +362,51 @@ public class AdminService {
     }
 
     /**
-     * 모든 상품 목록을 조회합니다.
+     * 카테고리별 가격 범위 캐시의 적중/실패/축출 통계를 조회합니다.
+     */
+    public PriceRangeCache.Stats getPriceRangeCacheStats() {
+        return priceRangeCache.stats();
+    }
+
+    /**
+     * 상품 목록을 ID 순서로 한 페이지씩 조회합니다. {@code after}보다 큰 ID부터 {@code size}개를 가져옵니다.
      */
     @Transactional(readOnly = true)
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    public ProductPageResponse getProducts(ProductSearchRequest search, Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(
+                    "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        validate(search);
+
+        // 한 행을 더 읽어 다음 페이지가 있는지 판단합니다.
+        List<ProductPriceView> rows = productRepository.findPriceViewsAfter(
+                after == null ? 0L : after, search.brand(), search.category(), search.minPrice(),
+                search.maxPrice(), Limit.of(size + 1));
+        List<ProductResponse> products = rows.stream()
+                .limit(size)
+                .map(ProductResponse::of)
+                .toList();
+        Long nextCursor = rows.size() > size ? products.get(products.size() - 1).id() : null;
+        return new ProductPageResponse(products, nextCursor);
+    }
+
+    /**
+     * 조건에 맞는 상품을 ID 순서로 하나씩 전달합니다. 목록 전체를 메모리에 올리지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public void exportProducts(ProductSearchRequest search, Consumer<ProductResponse> consumer) {
+        validate(search);
+        try (Stream<ProductPriceView> rows = productRepository.streamPriceViews(search.brand(),
+                search.category(), search.minPrice(), search.maxPrice())) {
+            rows.map(ProductResponse::of).forEach(consumer);
+        }
+    }
+
+    private void validate(ProductSearchRequest search) {
+        if (search.minPrice() != null && search.maxPrice() != null
+                && search.minPrice() > search.maxPrice()) {
+            throw new InvalidRequestException("최저 가격은 최고 가격보다 클 수 없습니다.");
+        }
     }
-} 
+}
@@ -1,116 +1,142 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.AfterCommit;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogSnapshot;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEvent;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
-import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CheapestBrandResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RankedBrandsResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.DuplicateException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.NotFoundException;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed("catalog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BrandService {
 
+    static final int MAX_RANKED_LIMIT = 100;
+    // Bounds the heap a single ranked request may build, whatever the offset.
+    static final int MAX_RANKED_DEPTH = 1_000;
+
     private final BrandRepository brandRepository;
     private final ProductRepository productRepository;
+    private final ProductColumns productColumns;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandPriceMatrix brandPriceMatrix;
+    private final PriceRangeCache priceRangeCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogEventBus catalogEventBus;
 
     public List<Brand> getAllBrands() {
         return brandRepository.findAll();
     }
 
+    /**
+     * 새로운 브랜드를 등록합니다. 상품이 없는 브랜드는 어떤 인덱스에도 없으므로 카탈로그 버전만 올립니다.
+     */
     @Transactional
     public Brand registerBrand(String name) {
         if (brandRepository.existsByName(name)) {
-            throw new IllegalArgumentException("이미 등록된 브랜드입니다: " + name);
+            throw new DuplicateException("이미 등록된 브랜드입니다: " + name);
         }
         Brand brand = new Brand();
         brand.setName(name);
-        return brandRepository.save(brand);
+        Brand savedBrand = brandRepository.save(brand);
+        // Replicas track writes by catalog version, so even this index-free write moves it.
+        AfterCommit.run(catalogVersion::increment);
+        return savedBrand;
     }
 
     public Brand getBrandByName(String name) {
         return brandRepository.findByName(name)
-                .orElseThrow(() -> new IllegalArgumentException("브랜드를 찾을 수 없습니다: " + name));
+                .orElseThrow(() -> new NotFoundException("브랜드를 찾을 수 없습니다: " + name));
     }
 
+    /**
+     * 브랜드와 그 브랜드의 모든 상품을 한 트랜잭션에서 삭제합니다. 상품 수와 상관없이 DELETE 두 번입니다.
+     */
     @Transactional
     public void deleteBrand(Long id) {
-        if (!brandRepository.existsById(id)) {
-            throw new IllegalArgumentException("브랜드를 찾을 수 없습니다: " + id);
+        productRepository.deleteByBrandId(id);
+        if (brandRepository.deleteBrandById(id) == 0) {
+            // Rolls back with the exception, though no product can reference a missing brand
+            throw new NotFoundException("브랜드를 찾을 수 없습니다: " + id);
         }
-        brandRepository.deleteById(id);
+        AfterCommit.run(() -> {
+            catalogVersion.update(() -> {
+                productColumns.removeBrand(id);
+                categoryPriceIndex.removeBrand(id);
+                brandPriceMatrix.removeBrand(id);
+                priceRangeCache.invalidateAll();
+                catalogEventBus.publish(new CatalogEvent.BrandRemoved(id));
+            });
+        });
     }
 
+    /**
+     * 선택한 카테고리를 모두 가진 브랜드 중 총액이 가장 낮은 브랜드들을 {@link BrandPriceMatrix}에서 조회합니다.
+     */
     public CheapestBrandResponse findCheapestBrandTotal(List<Category> categories) {
-        if (categories == null || categories.isEmpty()) {
-            throw new IllegalArgumentException("카테고리를 선택해주세요.");
-        }
+        return findCheapestBrandTotal(catalogVersion.snapshot(), categories);
+    }
 
-        // 1. 모든 상품 조회
-        List<Product> allProducts = productRepository.findAll();
-        if (allProducts.isEmpty()) {
-            throw new IllegalArgumentException("등록된 상품이 없습니다.");
+    public CheapestBrandResponse findCheapestBrandTotal(CatalogSnapshot snapshot,
+            List<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            throw new InvalidRequestException("카테고리를 선택해주세요.");
         }
 
-        // 2. 브랜드별로 상품 그룹화
-        Map<Brand, Map<Category, Integer>> brandPrices = new HashMap<>();
-        for (Product product : allProducts) {
-            brandPrices.computeIfAbsent(product.getBrand(), k -> new HashMap<>())
-                    .put(product.getCategory(), product.getPrice());
+        if (!snapshot.brands().hasProducts()) {
+            throw new NotFoundException("등록된 상품이 없습니다.");
         }
 
-        // 3. 선택된 카테고리의 상품을 모두 가진 브랜드만 필터링하고 총액 계산
-        List<CheapestBrandResponse.BrandTotal> brandTotals = new ArrayList<>();
-        for (Map.Entry<Brand, Map<Category, Integer>> entry : brandPrices.entrySet()) {
-            Brand brand = entry.getKey();
-            Map<Category, Integer> prices = entry.getValue();
-
-            // 브랜드가 모든 선택된 카테고리의 상품을 가지고 있는지 확인
-            if (prices.keySet().containsAll(categories)) {
-                // 카테고리별 가격 정보 생성
-                List<CheapestBrandResponse.CategoryPrice> categoryPrices = new ArrayList<>();
-                int total = 0;
+        List<CheapestBrandResponse.BrandTotal> cheapestBrands = snapshot.brands().cheapestBrands(
+                BrandPriceMatrix.mask(categories));
+        return new CheapestBrandResponse(cheapestBrands);
+    }
 
-                for (Category category : categories) {
-                    int price = prices.get(category);
-                    categoryPrices.add(new CheapestBrandResponse.CategoryPrice(
-                            category.name(),
-                            price
-                    ));
-                    total += price;
-                }
+    /**
+     * 선택한 카테고리를 모두 가진 브랜드를 총액이 낮은 순(같으면 브랜드 이름순)으로 {@code offset}번째부터
+     * {@code limit}개 조회합니다.
+     */
+    public RankedBrandsResponse findRankedBrands(List<Category> categories, int offset, int limit) {
+        return findRankedBrands(catalogVersion.snapshot(), categories, offset, limit);
+    }
 
-                // 브랜드 정보 추가
-                brandTotals.add(new CheapestBrandResponse.BrandTotal(
-                        brand.getName(),
-                        categoryPrices,
-                        total
-                ));
-            }
+    public RankedBrandsResponse findRankedBrands(CatalogSnapshot snapshot,
+            List<Category> categories, int offset, int limit) {
+        if (categories == null || categories.isEmpty()) {
+            throw new InvalidRequestException("카테고리를 선택해주세요.");
         }
-
-        if (brandTotals.isEmpty()) {
-            return new CheapestBrandResponse(Collections.emptyList());
+        if (offset < 0) {
+            throw new InvalidRequestException("offset은 0 이상이어야 합니다.");
         }
-
-        // 4. 총액으로 정렬
-        brandTotals.sort(Comparator.comparingInt(CheapestBrandResponse.BrandTotal::total));
-
-        // 5. 최저가 브랜드들만 선택 (동일한 가격이 있을 수 있음)
-        int lowestTotal = brandTotals.get(0).total();
-        List<CheapestBrandResponse.BrandTotal> cheapestBrands = brandTotals.stream()
-                .filter(bt -> bt.total() == lowestTotal)
-                .collect(Collectors.toList());
-
-        return new CheapestBrandResponse(cheapestBrands);
+        if (limit < 1 || limit > MAX_RANKED_LIMIT) {
+            throw new InvalidRequestException("limit은 1 이상 " + MAX_RANKED_LIMIT + " 이하여야 합니다.");
+        }
+        if ((long) offset + limit > MAX_RANKED_DEPTH) {
+            throw new InvalidRequestException(
+                    "offset + limit은 " + MAX_RANKED_DEPTH + " 이하여야 합니다.");
+        }
+        return snapshot.brands().rankedBrands(BrandPriceMatrix.mask(categories), offset, limit);
     }
-} 
+}
@@ -1,9 +1,16 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogSnapshot;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
-import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.NotFoundException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,11 +23,14 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed("catalog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryService {
 
     private final ProductRepository productRepository;
+    private final CatalogVersion catalogVersion;
+    private final PriceRangeCache priceRangeCache;
 
     public List<Category> getAllCategories() {
         return Arrays.asList(Category.values());
@@ -30,40 +40,57 @@ public class CategoryService {
         try {
             return Category.valueOf(name.toUpperCase());
         } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid category name: " + name);
+            throw new InvalidRequestException("Invalid category name: " + name);
         }
     }
 
+    /**
+     * 특정 카테고리의 최저가/최고가 브랜드를 조회합니다. {@link ProductColumns}가 적재되어 있으면 그 배열에서, 적재
+     * 전에는 최저가와 최고가 상품만 한 번의 쿼리로 가져오고, 결과는 {@link PriceRangeCache}에 담아 둡니다.
+     */
     public CategoryPriceResponse findPriceRangeByCategory(Category category) {
-        var products = productRepository.findByCategory(category);
+        CatalogSnapshot snapshot = catalogVersion.snapshot();
+        return priceRangeCache.get(category, snapshot.priceRangeGeneration(category),
+                () -> loadPriceRange(snapshot, category));
+    }
+
+    private CategoryPriceResponse loadPriceRange(CatalogSnapshot snapshot, Category category) {
+        if (snapshot.products().isLoaded()) {
+            CategoryPriceResponse response = snapshot.products().priceRange(category);
+            if (response == null) {
+                throw new NotFoundException("해당 카테고리의 상품이 없습니다: " + category);
+            }
+            return response;
+        }
+        var products = productRepository.findPriceRangeViewsByCategory(category);
         if (products.isEmpty()) {
-            throw new IllegalArgumentException("해당 카테고리의 상품이 없습니다: " + category);
+            throw new NotFoundException("해당 카테고리의 상품이 없습니다: " + category);
         }
 
         // 최저가와 최고가 찾기
         final int minPrice = products.stream()
-                .mapToInt(Product::getPrice)
+                .mapToInt(ProductPriceView::price)
                 .min()
                 .orElseThrow(() -> new IllegalStateException("최저가를 찾을 수 없습니다."));
 
         final int maxPrice = products.stream()
-                .mapToInt(Product::getPrice)
+                .mapToInt(ProductPriceView::price)
                 .max()
                 .orElseThrow(() -> new IllegalStateException("최고가를 찾을 수 없습니다."));
 
         // 최저가 브랜드들 찾기
         var lowestPrices = products.stream()
-                .filter(p -> p.getPrice() == minPrice)
-                .map(p -> new CategoryPriceResponse.BrandPrice(p.getBrand().getName(),
-                        p.getPrice()))
+                .filter(p -> p.price() == minPrice)
+                .map(p -> new CategoryPriceResponse.BrandPrice(p.brandName(),
+                        p.price()))
                 .sorted(Comparator.comparing(CategoryPriceResponse.BrandPrice::brand))
                 .collect(Collectors.toList());
 
         // 최고가 브랜드들 찾기
         var highestPrices = products.stream()
-                .filter(p -> p.getPrice() == maxPrice)
-                .map(p -> new CategoryPriceResponse.BrandPrice(p.getBrand().getName(),
-                        p.getPrice()))
+                .filter(p -> p.price() == maxPrice)
+                .map(p -> new CategoryPriceResponse.BrandPrice(p.brandName(),
+                        p.price()))
                 .sorted(Comparator.comparing(CategoryPriceResponse.BrandPrice::brand))
                 .collect(Collectors.toList());
 
@@ -0,0 +1,44 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.service;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.DuplicateException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * 같은 브랜드, 카테고리, 가격의 상품 등록 충돌을 중복 오류로 바꿉니다.
+ * <p>
+ * 중복은 {@code uk_product_brand_category_price} 제약이 판정합니다. 한 문장 MERGE가 기존 행을 찾으면 ID 없이 끝나고,
+ * 동시에 같은 상품을 넣은 트랜잭션이 먼저 커밋했다면 제약 위반으로 실패합니다. 두 경우 모두 같은 중복 오류가 됩니다.
+ */
+final class ProductConflicts {
+
+    // SQLSTATE for a unique constraint violation
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private ProductConflicts() {
+    }
+
+    static String message(String brand, Category category, int price) {
+        return String.format("이미 등록된 상품입니다: 브랜드=%s, 카테고리=%s, 가격=%d",
+                brand, category, price);
+    }
+
+    static DuplicateException duplicate(String brand, Category category, int price) {
+        return new DuplicateException(message(brand, category, price));
+    }
+
+    /**
+     * 유일 제약 위반이면 중복 오류를, 외래 키 위반처럼 다른 무결성 오류면 원래 예외를 돌려줍니다.
+     */
+    static RuntimeException translate(DataIntegrityViolationException e, String brand,
+            Category category, int price) {
+        return isUniqueViolation(e) ? duplicate(brand, category, price) : e;
+    }
+
+    static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql
+                && UNIQUE_VIOLATION.equals(sql.getSQLState());
+    }
+}
@@ -0,0 +1,284 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.AfterCommit;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEvent;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductImportResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * NDJSON 또는 CSV로 들어오는 상품 목록을 스트리밍으로 읽어 일괄 등록합니다.
+ * <p>
+ * 입력은 {@value #BATCH_SIZE}행 단위로 나눠 각각 하나의 트랜잭션에서 처리합니다. 배치마다 브랜드 조회와 중복 확인은
+ * 한 번의 쿼리로 하고, INSERT는 시퀀스로 미리 받은 ID 덕분에 JDBC 배치로 묶입니다. 잘못된 행은 건너뛰고 행 번호와 함께 보고합니다.
+ */
+@Slf4j
+@Service
+@Timed("catalog.service")
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    static final int BATCH_SIZE = 1_000;
+    static final int MAX_REPORTED_ERRORS = 1_000;
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private static final String CSV_HEADER = "brand,category,price";
+
+    private final BrandRepository brandRepository;
+    private final ProductRepository productRepository;
+    private final ProductColumns productColumns;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandPriceMatrix brandPriceMatrix;
+    private final PriceRangeCache priceRangeCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogEventBus catalogEventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    public ProductImportResponse importProducts(InputStream input, Format format) {
+        Report report = new Report();
+        List<Row> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (format == Format.CSV && lineNumber == 1
+                        && line.trim().equalsIgnoreCase(CSV_HEADER))) {
+                    continue;
+                }
+                report.received++;
+                try {
+                    batch.add(new Row(lineNumber, parse(line, format)));
+                } catch (IllegalArgumentException e) {
+                    report.fail(lineNumber, e.getMessage());
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch(batch, report);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 목록을 읽는 중 오류가 발생했습니다.", e);
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, report);
+        }
+
+        log.info("Imported {} of {} products ({} failed)", report.imported, report.received,
+                report.failed);
+        report.errors.sort(Comparator.comparingLong(ProductImportResponse.RowError::line));
+        return new ProductImportResponse(report.received, report.imported, report.failed,
+                List.copyOf(report.errors));
+    }
+
+    private ProductRequest parse(String line, Format format) {
+        ProductRequest request = format == Format.NDJSON ? parseJson(line) : parseCsv(line);
+        if (request.brand() == null || request.brand().trim().isEmpty()) {
+            throw new InvalidRequestException("브랜드 이름은 필수입니다.");
+        }
+        if (request.category() == null) {
+            throw new InvalidRequestException("카테고리는 필수입니다.");
+        }
+        ProductPrices.validate(request.price());
+        return new ProductRequest(request.brand().trim(), request.category(), request.price());
+    }
+
+    private ProductRequest parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, ProductRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private ProductRequest parseCsv(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 3) {
+            throw new InvalidRequestException("brand,category,price 세 항목이 필요합니다.");
+        }
+        Category category;
+        try {
+            category = Category.valueOf(fields[1].trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("알 수 없는 카테고리입니다: " + fields[1].trim());
+        }
+        try {
+            return new ProductRequest(fields[0], category, Integer.parseInt(fields[2].trim()));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("가격은 숫자여야 합니다: " + fields[2].trim());
+        }
+    }
+
+    /**
+     * 한 배치를 하나의 트랜잭션으로 저장합니다.
+     * <p>
+     * 중복 확인 뒤 다른 요청이 같은 상품을 먼저 커밋하면 유일 제약 위반으로 배치 전체가 롤백됩니다. 그때는 배치를 다시
+     * 시도하고, 새 중복 확인이 그 상품을 찾아 해당 행만 중복으로 보고합니다. 다른 오류로 실패하거나
+     * {@value #MAX_BATCH_ATTEMPTS}번 모두 충돌하면 배치의 모든 행을 실패로 보고합니다.
+     */
+    private void writeBatch(List<Row> batch, Report report) {
+        for (int attempt = 1; ; attempt++) {
+            List<Row.Failure> rejected = new ArrayList<>();
+            try {
+                List<Product> saved = transactionTemplate.execute(
+                        status -> insert(batch, rejected));
+                report.imported += saved.size();
+                rejected.forEach(failure -> report.fail(failure.line(), failure.message()));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt < MAX_BATCH_ATTEMPTS && ProductConflicts.isUniqueViolation(e)) {
+                    log.debug("Retrying batch starting at line {} after a concurrent insert",
+                            batch.get(0).line());
+                    continue;
+                }
+                failBatch(batch, report, e);
+                return;
+            } catch (DataAccessException e) {
+                failBatch(batch, report, e);
+                return;
+            }
+        }
+    }
+
+    private static void failBatch(List<Row> batch, Report report, DataAccessException e) {
+        log.error("Failed to import batch starting at line {}", batch.get(0).line(), e);
+        batch.forEach(row -> report.fail(row.line(), "저장 중 오류가 발생했습니다."));
+    }
+
+    private List<Product> insert(List<Row> batch, List<Row.Failure> rejected) {
+        Set<String> names = new HashSet<>();
+        Set<Integer> prices = new HashSet<>();
+        for (Row row : batch) {
+            names.add(row.request().brand());
+            prices.add(row.request().price());
+        }
+
+        Map<String, Brand> brands = new HashMap<>();
+        for (Brand brand : brandRepository.findByNameIn(names)) {
+            brands.put(brand.getName(), brand);
+        }
+
+        // 같은 브랜드, 카테고리, 가격의 상품은 DB에 있거나 같은 배치에 먼저 나왔으면 중복입니다.
+        Set<ProductKey> seen = new HashSet<>();
+        if (!brands.isEmpty()) {
+            List<Long> brandIds = brands.values().stream().map(Brand::getId).toList();
+            for (ProductPriceView existing : productRepository.findPriceViewsByBrandIdsAndPrices(
+                    brandIds, prices)) {
+                seen.add(new ProductKey(existing.brandId(), existing.category(),
+                        existing.price()));
+            }
+        }
+
+        List<Product> products = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            ProductRequest request = row.request();
+            Brand brand = brands.get(request.brand());
+            if (brand == null) {
+                rejected.add(new Row.Failure(row.line(), "브랜드를 찾을 수 없습니다: " + request.brand()));
+                continue;
+            }
+            if (!seen.add(new ProductKey(brand.getId(), request.category(), request.price()))) {
+                rejected.add(new Row.Failure(row.line(), ProductConflicts.message(
+                        request.brand(), request.category(), request.price())));
+                continue;
+            }
+            Product product = new Product();
+            product.setBrand(brand);
+            product.setCategory(request.category());
+            product.setPrice(request.price());
+            products.add(product);
+        }
+
+        productRepository.saveAll(products);
+        // Inserts here so a unique violation reaches writeBatch as such, not as a commit failure
+        productRepository.flush();
+        List<ProductPriceView> added = products.stream().map(ProductPriceView::of).toList();
+        List<CatalogEvent> events = new ArrayList<>(added.size());
+        for (ProductPriceView product : added) {
+            events.add(new CatalogEvent.ProductAdded(product.id(), product.brandId(),
+                    product.brandName(), product.category(), product.price()));
+        }
+        AfterCommit.run(() -> {
+            // The whole batch becomes visible to readers as one catalog version.
+            catalogVersion.update(() -> {
+                productColumns.addAll(added);
+                categoryPriceIndex.addAll(added);
+                brandPriceMatrix.addAll(added);
+                for (ProductPriceView product : added) {
+                    priceRangeCache.onProductAdded(product.category(), product.price());
+                }
+                catalogEventBus.publishAll(events);
+            });
+        });
+        return products;
+    }
+
+    private record Row(long line, ProductRequest request) {
+
+        private record Failure(long line, String message) {
+
+        }
+    }
+
+    private record ProductKey(Long brandId, Category category, int price) {
+
+    }
+
+    private static class Report {
+
+        private long received;
+        private long imported;
+        private long failed;
+        private final List<ProductImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportResponse.RowError(line, message));
+            }
+        }
+    }
+}
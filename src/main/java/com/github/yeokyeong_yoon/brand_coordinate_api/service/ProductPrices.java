@@ -0,0 +1,25 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.service;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+
+/**
+ * 상품 가격을 쓰기 전에 검사합니다.
+ * <p>
+ * 메모리 인덱스는 {@link Product#MAX_PRICE} 이하의 가격만 다룰 수 있으므로, 상품을 쓰는 서비스 메서드는 호출한 쪽이 이미
+ * 검사했더라도 저장 전에 이 검사를 거칩니다.
+ */
+final class ProductPrices {
+
+    private ProductPrices() {
+    }
+
+    static void validate(int price) {
+        if (price <= 0) {
+            throw new InvalidRequestException("가격은 0보다 커야 합니다.");
+        }
+        if (price > Product.MAX_PRICE) {
+            throw new InvalidRequestException(Product.PRICE_TOO_HIGH);
+        }
+    }
+}
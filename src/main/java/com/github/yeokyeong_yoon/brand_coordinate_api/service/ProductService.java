@@ -1,26 +1,36 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.AfterCommit;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogSnapshot;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEvent;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryLowestPriceResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
-import com.github.yeokyeong_yoon.brand_coordinate_api.dto.PriceRangeResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CheapestBrandResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.PriceRangeResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.NotFoundException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,55 +42,80 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Service
+@Timed("catalog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductColumns productColumns;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandPriceMatrix brandPriceMatrix;
+    private final PriceRangeCache priceRangeCache;
+    private final CatalogVersion catalogVersion;
+    private final CatalogEventBus catalogEventBus;
 
     @Transactional
     public Product saveProduct(Product product) {
-        if (productRepository.existsByBrandAndCategoryAndPrice(product.getBrand(),
-                product.getCategory(), product.getPrice())) {
-            throw new IllegalArgumentException(
-                    String.format("이미 등록된 상품입니다: 브랜드=%s, 카테고리=%s, 가격=%d",
-                            product.getBrand().getName(),
-                            product.getCategory(),
-                            product.getPrice())
-            );
+        Brand brand = product.getBrand();
+        Category category = product.getCategory();
+        int price = product.getPrice();
+        ProductPrices.validate(price);
+        try {
+            product.setId(productRepository.insertIfAbsent(brand.getId(), category.name(), price)
+                    .orElseThrow(() -> ProductConflicts.duplicate(brand.getName(), category,
+                            price)));
+        } catch (DataIntegrityViolationException e) {
+            throw ProductConflicts.translate(e, brand.getName(), category, price);
         }
-        return productRepository.save(product);
+        AfterCommit.run(() -> {
+            catalogVersion.update(() -> {
+                productColumns.add(brand.getId(), brand.getName(), category, price);
+                categoryPriceIndex.add(brand.getId(), brand.getName(), category, price);
+                brandPriceMatrix.add(brand.getId(), brand.getName(), category, price);
+                priceRangeCache.onProductAdded(category, price);
+                catalogEventBus.publish(new CatalogEvent.ProductAdded(product.getId(),
+                        brand.getId(), brand.getName(), category, price));
+            });
+        });
+        return product;
     }
 
     /**
      * 요구사항 1: 카테고리별 최저가격 브랜드와 총액 조회
+     * <p>
+     * 운영자 쓰기 때마다 갱신되는 {@link CategoryPriceIndex}에서 읽으므로 DB를 조회하지 않습니다.
+     * 인덱스가 아직 적재되지 않았다면 한 번의 집계 쿼리로 조회합니다.
      */
     public CategoryLowestPriceResponse findLowestPricesByCategory() {
-        List<Category> categories = Arrays.asList(Category.values());
-        List<CategoryLowestPriceResponse.CategoryPrice> categoryPrices = new ArrayList<>();
-        int totalPrice = 0;
-
-        for (Category category : categories) {
-            List<Product> products = productRepository.findByCategory(category);
-            if (products.isEmpty()) {
-                throw new IllegalArgumentException("해당 카테고리의 상품이 없습니다: " + category);
-            }
+        return findLowestPricesByCategory(catalogVersion.snapshot());
+    }
 
-            // 최저가 찾기
-            int minPrice = Integer.MAX_VALUE;
-            for (Product product : products) {
-                minPrice = Math.min(minPrice, product.getPrice());
-            }
+    public CategoryLowestPriceResponse findLowestPricesByCategory(CatalogSnapshot snapshot) {
+        if (snapshot.lowest().loaded()) {
+            return snapshot.lowest().lowestPrices();
+        }
+        return findLowestPricesFromDatabase();
+    }
 
-            // 최저가 브랜드들 찾기
-            List<CategoryLowestPriceResponse.CategoryPrice.BrandPrice> brandPrices = new ArrayList<>();
-            for (Product product : products) {
-                if (product.getPrice() == minPrice) {
-                    brandPrices.add(new CategoryLowestPriceResponse.CategoryPrice.BrandPrice(
-                            product.getBrand().getName(),
-                            product.getPrice()
+    private CategoryLowestPriceResponse findLowestPricesFromDatabase() {
+        Map<Category, List<CategoryLowestPriceResponse.CategoryPrice.BrandPrice>> lowestByCategory =
+                new EnumMap<>(Category.class);
+        for (ProductPriceView product : productRepository.findLowestPricedViews()) {
+            lowestByCategory.computeIfAbsent(product.category(), c -> new ArrayList<>())
+                    .add(new CategoryLowestPriceResponse.CategoryPrice.BrandPrice(
+                            product.brandName(),
+                            product.price()
                     ));
-                }
+        }
+
+        List<CategoryLowestPriceResponse.CategoryPrice> categoryPrices = new ArrayList<>();
+        int totalPrice = 0;
+        for (Category category : Category.values()) {
+            List<CategoryLowestPriceResponse.CategoryPrice.BrandPrice> brandPrices =
+                    lowestByCategory.get(category);
+            if (brandPrices == null) {
+                throw new NotFoundException("해당 카테고리의 상품이 없습니다: " + category);
             }
 
             // 브랜드 이름으로 정렬
@@ -90,7 +125,7 @@ public class ProductService {
                     category.name(),
                     brandPrices
             ));
-            totalPrice += minPrice;
+            totalPrice += brandPrices.get(0).price();
         }
 
         // 카테고리 이름으로 정렬
@@ -101,36 +136,57 @@ public class ProductService {
 
     /**
      * 요구사항 3: 특정 카테고리의 최저가/최고가 브랜드와 가격 조회
+     * <p>
+     * {@link ProductColumns}가 적재되어 있으면 그 배열을 훑어 답하고, 적재 전에는 최저가와 최고가에 해당하는 상품만
+     * 한 번의 쿼리로 조회합니다. 결과는 {@link PriceRangeCache}에 담아 둡니다.
      */
     public CategoryPriceResponse findPriceRangeByCategory(Category category) {
-        List<Product> products = productRepository.findByCategory(category);
+        return findPriceRangeByCategory(catalogVersion.snapshot(), category);
+    }
+
+    public CategoryPriceResponse findPriceRangeByCategory(CatalogSnapshot snapshot,
+            Category category) {
+        return priceRangeCache.get(category, snapshot.priceRangeGeneration(category),
+                () -> loadPriceRange(snapshot, category));
+    }
+
+    private CategoryPriceResponse loadPriceRange(CatalogSnapshot snapshot, Category category) {
+        if (snapshot.products().isLoaded()) {
+            CategoryPriceResponse response = snapshot.products().priceRange(category);
+            if (response == null) {
+                throw new NotFoundException("해당 카테고리의 상품이 없습니다: " + category);
+            }
+            return response;
+        }
+        List<ProductPriceView> products = productRepository.findPriceRangeViewsByCategory(
+                category);
         if (products.isEmpty()) {
-            throw new IllegalArgumentException("해당 카테고리의 상품이 없습니다: " + category);
+            throw new NotFoundException("해당 카테고리의 상품이 없습니다: " + category);
         }
 
         // 최저가와 최고가 찾기
         int minPrice = Integer.MAX_VALUE;
         int maxPrice = Integer.MIN_VALUE;
-        for (Product product : products) {
-            minPrice = Math.min(minPrice, product.getPrice());
-            maxPrice = Math.max(maxPrice, product.getPrice());
+        for (ProductPriceView product : products) {
+            minPrice = Math.min(minPrice, product.price());
+            maxPrice = Math.max(maxPrice, product.price());
         }
 
         // 최저가 브랜드들 찾기
         List<CategoryPriceResponse.BrandPrice> lowestPrices = new ArrayList<>();
         List<CategoryPriceResponse.BrandPrice> highestPrices = new ArrayList<>();
 
-        for (Product product : products) {
-            if (product.getPrice() == minPrice) {
+        for (ProductPriceView product : products) {
+            if (product.price() == minPrice) {
                 lowestPrices.add(new CategoryPriceResponse.BrandPrice(
-                        product.getBrand().getName(),
-                        product.getPrice()
+                        product.brandName(),
+                        product.price()
                 ));
             }
-            if (product.getPrice() == maxPrice) {
+            if (product.price() == maxPrice) {
                 highestPrices.add(new CategoryPriceResponse.BrandPrice(
-                        product.getBrand().getName(),
-                        product.getPrice()
+                        product.brandName(),
+                        product.price()
                 ));
             }
         }
@@ -147,101 +203,50 @@ public class ProductService {
     }
 
     public List<PriceRangeResponse> findPriceRangeByCategory() {
-        List<Product> products = productRepository.findAll();
-        if (products == null) {
-            products = new ArrayList<>();
-        }
-        Map<Category, List<Product>> productsByCategory = products.stream()
-                .collect(Collectors.groupingBy(Product::getCategory));
-        List<PriceRangeResponse> priceRanges = new ArrayList<>();
-        for (Map.Entry<Category, List<Product>> entry : productsByCategory.entrySet()) {
-            Category category = entry.getKey();
-            List<Product> categoryProducts = entry.getValue();
-            double minPrice = categoryProducts.stream()
-                    .mapToDouble(Product::getPrice)
-                    .min()
-                    .orElse(0.0);
-            double maxPrice = categoryProducts.stream()
-                    .mapToDouble(Product::getPrice)
-                    .max()
-                    .orElse(0.0);
-            priceRanges.add(new PriceRangeResponse(category.name(), minPrice, maxPrice));
+        CatalogSnapshot snapshot = catalogVersion.snapshot();
+        if (snapshot.products().isLoaded()) {
+            return snapshot.products().priceRanges();
         }
-        return priceRanges;
+        return productRepository.findPriceRanges().stream()
+                .map(range -> new PriceRangeResponse(range.category().name(), range.minPrice(),
+                        range.maxPrice()))
+                .toList();
     }
 
     /**
      * 요구사항 2: 선택한 카테고리의 상품을 모두 구매할 때 최저가 브랜드와 총액 조회
+     * <p>
+     * 카테고리 조합별 답을 미리 계산해 둔 {@link BrandPriceMatrix}에서 조회합니다.
      */
     public List<CheapestBrandResponse.BrandTotal> findCheapestBrandTotal(
             List<Category> categories) {
+        return findCheapestBrandTotal(catalogVersion.snapshot(), categories);
+    }
+
+    public List<CheapestBrandResponse.BrandTotal> findCheapestBrandTotal(CatalogSnapshot snapshot,
+            List<Category> categories) {
         log.debug("Finding cheapest brand total for categories: {}", categories);
 
         if (categories == null || categories.isEmpty()) {
-            log.error("Categories list is null or empty");
-            throw new IllegalArgumentException("Categories list cannot be empty");
+            log.debug("Categories list is null or empty");
+            throw new InvalidRequestException("Categories list cannot be empty");
         }
 
-        // Get all products for the requested categories
-        List<Product> products = productRepository.findByCategoryIn(categories);
-        if (products.isEmpty()) {
-            log.error("No products found for categories: {}", categories);
-            throw new IllegalArgumentException("No products found for the selected categories");
+        int mask = BrandPriceMatrix.mask(categories);
+        if (!snapshot.brands().hasProductsIn(mask)) {
+            log.debug("No products found for categories: {}", categories);
+            throw new NotFoundException("No products found for the selected categories");
         }
 
-        // Group products by brand and category
-        Map<Brand, Map<Category, Integer>> brandCategoryPrices = products.stream()
-                .collect(Collectors.groupingBy(
-                        Product::getBrand,
-                        Collectors.groupingBy(
-                                Product::getCategory,
-                                Collectors.collectingAndThen(
-                                        Collectors.minBy(
-                                                Comparator.comparingInt(Product::getPrice)),
-                                        opt -> opt.map(Product::getPrice).orElse(Integer.MAX_VALUE)
-                                )
-                        )
-                ));
-
-        // Filter brands that have all requested categories
-        List<CheapestBrandResponse.BrandTotal> brandTotals = brandCategoryPrices.entrySet().stream()
-                .filter(entry -> {
-                    Map<Category, Integer> categoryPrices = entry.getValue();
-                    return categories.stream().allMatch(categoryPrices::containsKey);
-                })
-                .map(entry -> {
-                    Brand brand = entry.getKey();
-                    Map<Category, Integer> categoryPrices = entry.getValue();
-                    List<CheapestBrandResponse.CategoryPrice> categoryPriceList = categoryPrices.entrySet()
-                            .stream()
-                            .map(cp -> new CheapestBrandResponse.CategoryPrice(cp.getKey().name(),
-                                    cp.getValue()))
-                            .toList();
-                    int total = categoryPriceList.stream()
-                            .mapToInt(CheapestBrandResponse.CategoryPrice::price)
-                            .sum();
-                    return new CheapestBrandResponse.BrandTotal(brand.getName(), categoryPriceList,
-                            total);
-                })
-                .toList();
-
-        if (brandTotals.isEmpty()) {
+        List<CheapestBrandResponse.BrandTotal> cheapestBrands = snapshot.brands().cheapestBrands(
+                mask);
+        if (cheapestBrands.isEmpty()) {
             log.warn("No brands found with all requested categories");
             return Collections.emptyList();
         }
 
-        // Find the minimum total
-        int minTotal = brandTotals.stream()
-                .mapToInt(CheapestBrandResponse.BrandTotal::total)
-                .min()
-                .orElse(Integer.MAX_VALUE);
-
-        // Filter brands with the minimum total
-        List<CheapestBrandResponse.BrandTotal> cheapestBrands = brandTotals.stream()
-                .filter(brandTotal -> brandTotal.total() == minTotal)
-                .toList();
-
-        log.debug("Found {} brands with minimum total of {}", cheapestBrands.size(), minTotal);
+        log.debug("Found {} brands with minimum total of {}", cheapestBrands.size(),
+                cheapestBrands.get(0).total());
         return cheapestBrands;
     }
 }
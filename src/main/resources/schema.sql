@@ -5,13 +5,32 @@ CREATE TABLE IF NOT EXISTS brand
     name VARCHAR(255) NOT NULL UNIQUE
 );
 
+-- 제품 ID 시퀀스입니다. Hibernate가 한 번에 50개씩 ID를 할당받아 INSERT를 JDBC 배치로 묶을 수 있습니다.
+CREATE SEQUENCE IF NOT EXISTS product_seq START WITH 1 INCREMENT BY 50;
+
 -- 제품 테이블을 생성합니다. 이 테이블은 각 제품의 고유 ID, 브랜드 ID, 카테고리 및 가격을 저장합니다.
 -- 브랜드 ID는 브랜드 테이블의 ID를 참조하여, 각 제품이 어떤 브랜드에 속하는지를 나타냅니다.
 CREATE TABLE IF NOT EXISTS product
 (
-    id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id       BIGINT DEFAULT NEXT VALUE FOR product_seq PRIMARY KEY,
     brand_id BIGINT      NOT NULL,
     category VARCHAR(50) NOT NULL,
     price    INT         NOT NULL,
-    FOREIGN KEY (brand_id) REFERENCES brand (id)
-); 
+    FOREIGN KEY (brand_id) REFERENCES brand (id),
+    CONSTRAINT uk_product_brand_category_price UNIQUE (brand_id, category, price)
+);
+
+-- Hibernate가 먼저 테이블을 만든 경우에도 ID 없이 넣는 SQL(data.sql, 대량 적재)이 시퀀스를 쓰도록 기본값을 지정합니다.
+ALTER TABLE product ALTER COLUMN id SET DEFAULT NEXT VALUE FOR product_seq;
+
+-- 카테고리별 최저가/최고가 조회를 위한 커버링 인덱스입니다.
+-- (category, price)로 최솟값/최댓값을 인덱스 끝에서 바로 찾고, brand_id까지 포함해 테이블을 읽지 않습니다.
+CREATE INDEX IF NOT EXISTS idx_product_category_price ON product (category, price, brand_id);
+
+-- 같은 브랜드, 카테고리, 가격의 상품은 하나뿐입니다. 중복 검사를 조회 후 INSERT로 하면 동시 등록이 둘 다 통과하므로 DB가 막습니다.
+-- 이 제약이 없던 파일 DB에도 추가합니다. 이미 중복 행이 있으면 여기서 실패하므로 먼저 정리해야 합니다.
+ALTER TABLE product ADD CONSTRAINT IF NOT EXISTS uk_product_brand_category_price
+    UNIQUE (brand_id, category, price);
+
+-- 유일 제약의 인덱스가 brand_id로 시작하므로, 브랜드별 상품 조회와 외래 키 검사는 그 인덱스를 씁니다.
+DROP INDEX IF EXISTS idx_product_brand;
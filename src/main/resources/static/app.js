@@ -391,31 +391,39 @@ async function findPriceRangeByCategory() {
   }
 }
 
-// 상품 목록 조회
+// 상품 목록 조회 (서버는 ID 순서로 한 페이지씩 내려주므로 nextCursor가 없을 때까지 이어서 조회)
 async function loadProducts() {
   console.log('Loading all products...');
   try {
-    const response = await fetch(`${API_BASE_URL}/admin/products`, {
-      method: 'GET',
-      headers: {
-        'Content-Type': 'application/json'
+    let products = [];
+    let cursor = null;
+    do {
+      const query = cursor ? `?size=1000&after=${cursor}` : '?size=1000';
+      const response = await fetch(`${API_BASE_URL}/admin/products${query}`, {
+        method: 'GET',
+        headers: {
+          'Content-Type': 'application/json'
+        }
+      });
+      console.log('Response status:', response.status);
+
+      if (!response.ok) {
+        throw new Error(`HTTP error! status: ${response.status}`);
       }
-    });
-    console.log('Response status:', response.status);
 
-    if (!response.ok) {
-      throw new Error(`HTTP error! status: ${response.status}`);
-    }
+      const data = await response.json();
 
-    const data = await response.json();
-    console.log('Response data:', data);
+      if (!data.success) {
+        throw new Error(data.message || 'Failed to load products');
+      }
 
-    if (!data.success) {
-      throw new Error(data.message || 'Failed to load products');
-    }
+      products = products.concat(data.data.products);
+      cursor = data.data.nextCursor;
+    } while (cursor);
 
-    displayProducts(data.data);
-    return data.data;
+    console.log('Loaded products:', products.length);
+    displayProducts(products);
+    return products;
   } catch (error) {
     console.error('Error loading products:', error);
     document.getElementById('productList').innerHTML = `
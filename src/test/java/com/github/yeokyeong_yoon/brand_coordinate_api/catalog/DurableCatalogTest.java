@@ -0,0 +1,80 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.BrandCoordinateApiApplication;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.BrandRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryLowestPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.AdminService;
+import com.github.yeokyeong_yoon.brand_coordinate_api.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code durable} 프로필로 같은 DB 파일을 두 번 열어, 운영자 변경이 재시작 뒤에도 남고 샘플 데이터가 다시 들어가지 않는지 확인합니다.
+ */
+class DurableCatalogTest {
+
+    @TempDir
+    Path directory;
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BrandCoordinateApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("durable")
+                .run("--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("branddb")
+                                + ";DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    private static void awaitIndex(ConfigurableApplicationContext context)
+            throws InterruptedException {
+        CatalogLoadGate gate = context.getBean(CatalogLoadGate.class);
+        for (int i = 0; i < 300 && !gate.isLoaded(); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(gate.isLoaded()).isTrue();
+    }
+
+    @Test
+    void restart_ShouldKeepAdminChangesWithoutReplayingSeed() throws Exception {
+        // Given
+        try (ConfigurableApplicationContext first = start()) {
+            assertThat(first.getBean(BrandRepository.class).count()).isEqualTo(9);
+            assertThat(first.getBean(ProductRepository.class).count()).isEqualTo(72);
+            awaitIndex(first);
+            AdminService adminService = first.getBean(AdminService.class);
+            adminService.registerBrand(new BrandRequest("durable"));
+            adminService.registerProduct(new ProductRequest("durable", Category.TOP, 10));
+        }
+
+        // When
+        try (ConfigurableApplicationContext second = start()) {
+            awaitIndex(second);
+
+            // Then
+            assertThat(second.getBean(BrandRepository.class).count()).isEqualTo(10);
+            assertThat(second.getBean(ProductRepository.class).count()).isEqualTo(73);
+            assertThat(second.getBean(ApplicationAvailability.class).getReadinessState())
+                    .isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+            CategoryLowestPriceResponse lowest = second.getBean(ProductService.class)
+                    .findLowestPricesByCategory();
+            assertThat(lowest.categories().stream()
+                    .filter(categoryPrice -> categoryPrice.category().equals(Category.TOP.name()))
+                    .findFirst().orElseThrow().brandPrices())
+                    .containsExactly(new CategoryLowestPriceResponse.CategoryPrice.BrandPrice(
+                            "durable", 10));
+        }
+    }
+}
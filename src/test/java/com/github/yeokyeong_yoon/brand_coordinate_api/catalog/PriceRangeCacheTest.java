@@ -0,0 +1,162 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PriceRangeCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private PriceRangeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cache(Category.values().length, Duration.ofSeconds(10));
+    }
+
+    private PriceRangeCache cache(int maxEntries, Duration ttl) {
+        PriceRangeCacheProperties properties = new PriceRangeCacheProperties();
+        properties.setMaxEntries(maxEntries);
+        properties.setTtl(ttl);
+        return new PriceRangeCache(properties, clock::get);
+    }
+
+    private CategoryPriceResponse load(Category category) {
+        return cache.get(category, () -> {
+            loads.incrementAndGet();
+            return new CategoryPriceResponse(category.name(),
+                    List.of(new CategoryPriceResponse.BrandPrice("A", 1000)),
+                    List.of(new CategoryPriceResponse.BrandPrice("B", 9000)));
+        });
+    }
+
+    @Test
+    void get_ShouldExpireEntriesAfterTtl() {
+        // Given
+        load(Category.TOP);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        load(Category.TOP);
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        load(Category.TOP);
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats()).isEqualTo(new PriceRangeCache.Stats(1, 2, 1, 0, 1));
+    }
+
+    @Test
+    void get_ShouldEvictOldestEntryWhenFull() {
+        // Given
+        cache = cache(2, Duration.ofMinutes(1));
+        load(Category.TOP);
+        clock.incrementAndGet();
+        load(Category.PANTS);
+        clock.incrementAndGet();
+
+        // When
+        load(Category.BAG);
+        load(Category.PANTS);
+        load(Category.TOP);
+
+        // Then
+        assertThat(loads).hasValue(4);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    void onProductAdded_ShouldInvalidateOnlyWhenRangeEndIsTouched() {
+        // Given
+        load(Category.TOP);
+        load(Category.PANTS);
+
+        // When & Then
+        cache.onProductAdded(Category.TOP, 5000);
+        assertThat(cache.stats().size()).isEqualTo(2);
+        cache.onProductAdded(Category.TOP, 9000);
+        assertThat(cache.stats().size()).isEqualTo(1);
+        cache.onProductRemoved(Category.PANTS, 500);
+        assertThat(cache.stats().size()).isZero();
+        assertThat(cache.stats().invalidations()).isEqualTo(2);
+    }
+
+    @Test
+    void onBrandRenamed_ShouldInvalidateOnlyCategoriesListingTheBrand() {
+        // Given
+        load(Category.TOP);
+
+        // When
+        cache.onBrandRenamed("C");
+        int sizeAfterUnrelatedRename = cache.stats().size();
+        cache.onBrandRenamed("B");
+
+        // Then
+        assertThat(sizeAfterUnrelatedRename).isEqualTo(1);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void get_ShouldNotStoreResultLoadedBeforeConcurrentWrite() {
+        // When: a write lands while the first load is running
+        cache.get(Category.TOP, () -> {
+            cache.onProductAdded(Category.TOP, 500);
+            return new CategoryPriceResponse(Category.TOP.name(),
+                    List.of(new CategoryPriceResponse.BrandPrice("A", 1000)),
+                    List.of(new CategoryPriceResponse.BrandPrice("B", 9000)));
+        });
+        load(Category.TOP);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ShouldServeEachSnapshotGenerationOnlyItsOwnEntry() {
+        // Given: a reader pinned the generation before a write invalidated TOP
+        long pinned = cache.generations()[Category.TOP.ordinal()];
+        cache.onProductAdded(Category.TOP, 500);
+        long current = cache.generations()[Category.TOP.ordinal()];
+
+        // When
+        cache.get(Category.TOP, pinned, () -> response(500));
+        CategoryPriceResponse fresh = load(Category.TOP);
+        CategoryPriceResponse stale = cache.get(Category.TOP, pinned, () -> response(700));
+
+        // Then: the stale reader never stores, and never sees the newer entry
+        assertThat(current).isGreaterThan(pinned);
+        assertThat(fresh.lowestPrices().get(0).price()).isEqualTo(1000);
+        assertThat(stale.lowestPrices().get(0).price()).isEqualTo(700);
+        assertThat(load(Category.TOP)).isSameAs(fresh);
+        assertThat(cache.stats().misses()).isEqualTo(3);
+    }
+
+    private static CategoryPriceResponse response(int minPrice) {
+        return new CategoryPriceResponse(Category.TOP.name(),
+                List.of(new CategoryPriceResponse.BrandPrice("A", minPrice)),
+                List.of(new CategoryPriceResponse.BrandPrice("B", 9000)));
+    }
+
+    @Test
+    void get_ShouldNotCacheFailedLoad() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> cache.get(Category.TOP, () -> {
+            throw new IllegalArgumentException("해당 카테고리의 상품이 없습니다: TOP");
+        }));
+
+        // Then
+        assertThat(cache.stats().size()).isZero();
+    }
+}
@@ -0,0 +1,251 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.PriceRangeResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProductColumnsTest {
+
+    private final ProductColumns columns = new ProductColumns();
+
+    @Test
+    void reload_ShouldRejectProductBeforeItsBrand() {
+        assertThrows(IllegalStateException.class, () -> columns.reload(1,
+                loader -> loader.product(1L, Category.TOP, 1000)));
+        assertThat(columns.isLoaded()).isFalse();
+    }
+
+    @Test
+    void writes_ShouldKeepScansConsistent() {
+        // Given
+        columns.reload(List.of(
+                new ProductPriceView(1L, 1L, "B", Category.TOP, 5000),
+                new ProductPriceView(2L, 2L, "A", Category.TOP, 5000),
+                new ProductPriceView(3L, 2L, "A", Category.TOP, 9000),
+                new ProductPriceView(4L, 1L, "B", Category.PANTS, 3000)));
+
+        // When
+        columns.add(3L, "C", Category.TOP, 9000);
+        columns.renameBrand(1L, "B2");
+
+        // Then
+        assertThat(columns.isLoaded()).isTrue();
+        assertThat(columns.productCount(Category.TOP)).isEqualTo(4);
+        CategoryPriceResponse top = columns.snapshot().priceRange(Category.TOP);
+        assertThat(top.lowestPrices()).extracting(CategoryPriceResponse.BrandPrice::brand)
+                .containsExactly("A", "B2");
+        assertThat(top.highestPrices()).extracting(CategoryPriceResponse.BrandPrice::brand)
+                .containsExactly("A", "C");
+        assertThat(columns.lowest(Category.TOP))
+                .isEqualTo(new ProductColumns.Lowest(5000, Map.of(1L, "B2", 2L, "A")));
+
+        // When: 같은 가격의 상품이 하나만 지워지고, 브랜드 삭제는 그 브랜드의 행만 지움
+        assertThat(columns.remove(2L, Category.TOP, 9000)).isTrue();
+        assertThat(columns.remove(2L, Category.TOP, 9000)).isFalse();
+        columns.removeBrand(1L);
+
+        // Then
+        assertThat(columns.minPrice(2L, Category.TOP)).isEqualTo(5000);
+        assertThat(columns.minPrice(1L, Category.TOP)).isEqualTo(ProductColumns.MISSING);
+        assertThat(columns.productCount(Category.PANTS)).isZero();
+        assertThat(columns.snapshot().priceRange(Category.PANTS)).isNull();
+        assertThat(columns.snapshot().priceRanges())
+                .extracting(PriceRangeResponse::getCategory, PriceRangeResponse::getMinPrice,
+                        PriceRangeResponse::getMaxPrice)
+                .containsExactly(tuple("TOP", 5000.0, 9000.0));
+
+        // When: 지워진 브랜드 번호는 새 브랜드가 다시 씀
+        columns.add(4L, "D", Category.HAT, 100);
+
+        // Then
+        List<String> rows = new ArrayList<>();
+        columns.forEach((brandId, brandName, category, price) ->
+                rows.add(brandId + ":" + brandName + ":" + category + ":" + price));
+        assertThat(rows).containsExactlyInAnyOrder("2:A:TOP:5000", "3:C:TOP:9000", "4:D:HAT:100");
+    }
+
+    @Test
+    void snapshot_ShouldNotSeeLaterWrites() {
+        // Given: 조각 경계를 넘는 행 수
+        int rows = ProductColumns.CHUNK_SIZE + 100;
+        for (int i = 0; i < rows; i++) {
+            columns.add((long) i % 50, "brand-" + i % 50, Category.TOP, 1000 + i);
+        }
+        ProductColumns.View before = columns.snapshot();
+
+        // When: 앞쪽 조각의 행을 지우고, 이름을 바꾸고, 뒤에 붙임
+        assertThat(columns.remove(0L, Category.TOP, 1000)).isTrue();
+        columns.renameBrand(1L, "renamed");
+        columns.removeBrand(2L);
+        columns.add(99L, "new", Category.TOP, 1);
+        ProductColumns.View after = columns.snapshot();
+
+        // Then
+        assertThat(before.productCount(Category.TOP)).isEqualTo(rows);
+        CategoryPriceResponse range = before.priceRange(Category.TOP);
+        assertThat(range.lowestPrices()).extracting(CategoryPriceResponse.BrandPrice::brand)
+                .containsExactly("brand-0");
+        int[] visited = new int[1];
+        before.forEach((brandId, brandName, category, price) -> {
+            assertThat(brandName).isEqualTo("brand-" + brandId);
+            visited[0]++;
+        });
+        assertThat(visited[0]).isEqualTo(rows);
+
+        int removedRows = 1 + (rows - 2 + 49) / 50;
+        assertThat(after.productCount(Category.TOP)).isEqualTo(rows - removedRows + 1);
+        assertThat(after.priceRange(Category.TOP).lowestPrices())
+                .extracting(CategoryPriceResponse.BrandPrice::brand).containsExactly("new");
+        List<String> renamed = new ArrayList<>();
+        after.forEach((brandId, brandName, category, price) -> {
+            assertThat(brandId).isNotEqualTo(2L);
+            if (brandId == 1L) {
+                renamed.add(brandName);
+            }
+        });
+        assertThat(renamed).isNotEmpty().containsOnly("renamed");
+    }
+
+    @Test
+    void reprice_ShouldRewriteOnlyMatchingRowsWithoutChangingEarlierSnapshots() {
+        // Given
+        columns.reload(List.of(
+                new ProductPriceView(1L, 1L, "A", Category.TOP, 1000),
+                new ProductPriceView(2L, 1L, "A", Category.TOP, 1100),
+                new ProductPriceView(3L, 1L, "A", Category.PANTS, 1000),
+                new ProductPriceView(4L, 2L, "B", Category.TOP, 1000)));
+        ProductColumns.View before = columns.snapshot();
+
+        // When: 1,000 -> 1,100과 1,100 -> 1,210이 서로 이어지지 않아야 함
+        columns.reprice(1L, Category.TOP, Map.of(1000, 1100, 1100, 1210));
+
+        // Then
+        List<String> rows = new ArrayList<>();
+        columns.forEach((brandId, brandName, category, price) ->
+                rows.add(brandName + ":" + category + ":" + price));
+        assertThat(rows).containsExactlyInAnyOrder("A:TOP:1100", "A:TOP:1210", "A:PANTS:1000",
+                "B:TOP:1000");
+        assertThat(columns.minPrice(1L, Category.TOP)).isEqualTo(1100);
+        assertThat(before.priceRange(Category.TOP).highestPrices())
+                .extracting(CategoryPriceResponse.BrandPrice::price).containsExactly(1100);
+
+        // When: 카테고리만 지정하면 모든 브랜드의 행이 대상
+        columns.reprice(null, Category.TOP, Map.of(1000, 900));
+
+        // Then
+        assertThat(columns.minPrice(2L, Category.TOP)).isEqualTo(900);
+        assertThat(columns.minPrice(1L, Category.PANTS)).isEqualTo(1000);
+    }
+
+    @Test
+    void brandWrites_ShouldMatchNaiveModelAcrossChunks() {
+        // Given: 조각 여러 개에 섞인 브랜드 30개의 행
+        Random random = new Random(11);
+        List<String> model = new ArrayList<>();
+        for (int i = 0; i < ProductColumns.CHUNK_SIZE * 2 + 500; i++) {
+            long brandId = 1 + random.nextInt(30);
+            Category category = Category.values()[random.nextInt(Category.values().length)];
+            int price = 100 * (1 + random.nextInt(50));
+            columns.add(brandId, "brand-" + brandId, category, price);
+            model.add(brandId + ":" + category + ":" + price);
+        }
+
+        // When: 브랜드 삭제, 상품 삭제, 브랜드별/카테고리별 가격 변경을 섞음
+        for (int round = 0; round < 200; round++) {
+            long brandId = 1 + random.nextInt(30);
+            switch (round % 4) {
+                case 0 -> {
+                    String row = model.get(random.nextInt(model.size()));
+                    String[] parts = row.split(":");
+                    assertThat(columns.remove(Long.parseLong(parts[0]),
+                            Category.valueOf(parts[1]), Integer.parseInt(parts[2]))).isTrue();
+                    model.remove(row);
+                }
+                case 1 -> {
+                    columns.reprice(brandId, Category.TOP, Map.of(100, 99_000));
+                    model.replaceAll(row -> row.equals(brandId + ":TOP:100")
+                            ? brandId + ":TOP:99000" : row);
+                }
+                case 2 -> {
+                    columns.reprice(null, Category.BAG, Map.of(200, 98_000));
+                    model.replaceAll(row -> row.endsWith(":BAG:200")
+                            ? row.replace(":BAG:200", ":BAG:98000") : row);
+                }
+                default -> {
+                    if (round % 40 == 3) {
+                        columns.removeBrand(brandId);
+                        model.removeIf(row -> row.startsWith(brandId + ":"));
+                    }
+                }
+            }
+        }
+
+        // Then
+        List<String> rows = new ArrayList<>();
+        columns.forEach((brandId, brandName, category, price) ->
+                rows.add(brandId + ":" + category + ":" + price));
+        assertThat(rows).containsExactlyInAnyOrderElementsOf(model);
+        for (long brandId = 1; brandId <= 30; brandId++) {
+            int expected = ProductColumns.MISSING;
+            for (String row : model) {
+                String[] parts = row.split(":");
+                if (parts[0].equals(Long.toString(brandId)) && parts[1].equals("SNEAKERS")) {
+                    expected = Math.min(expected, Integer.parseInt(parts[2]));
+                }
+            }
+            assertThat(columns.minPrice(brandId, Category.SNEAKERS)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void minPrice_ShouldMatchNaiveScanAfterRandomWrites() {
+        // Given
+        Random random = new Random(7);
+        List<long[]> products = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long brandId = 1 + random.nextInt(20);
+            int category = random.nextInt(Category.values().length);
+            int price = 100 * (1 + random.nextInt(100));
+            columns.add(brandId, "brand-" + brandId, Category.values()[category], price);
+            products.add(new long[]{brandId, category, price});
+        }
+
+        // When
+        for (int i = 0; i < 2000; i++) {
+            long[] product = products.remove(random.nextInt(products.size()));
+            assertThat(columns.remove(product[0], Category.values()[(int) product[1]],
+                    (int) product[2])).isTrue();
+        }
+
+        // Then
+        for (long brandId = 1; brandId <= 20; brandId++) {
+            for (Category category : Category.values()) {
+                int expected = ProductColumns.MISSING;
+                for (long[] product : products) {
+                    if (product[0] == brandId && product[1] == category.ordinal()) {
+                        expected = Math.min(expected, (int) product[2]);
+                    }
+                }
+                assertThat(columns.minPrice(brandId, category)).isEqualTo(expected);
+            }
+        }
+        int[] counts = new int[Category.values().length];
+        for (long[] product : products) {
+            counts[(int) product[1]]++;
+        }
+        for (Category category : Category.values()) {
+            assertThat(columns.productCount(category)).isEqualTo(counts[category.ordinal()]);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCacheProperties;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CatalogEventBusTest {
+
+    private CatalogEventBus bus;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (bus != null) {
+            bus.destroy();
+        }
+    }
+
+    private CatalogEventProperties properties(int lanes, int queueCapacity, int maxBatchSize) {
+        CatalogEventProperties properties = new CatalogEventProperties();
+        properties.setLanes(lanes);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMaxBatchSize(maxBatchSize);
+        return properties;
+    }
+
+    private static CatalogVersion catalogVersion() {
+        ProductColumns productColumns = new ProductColumns();
+        return new CatalogVersion(productColumns, new CategoryPriceIndex(productColumns),
+                new BrandPriceMatrix(productColumns),
+                new PriceRangeCache(new PriceRangeCacheProperties()));
+    }
+
+    private static CatalogEvent.PriceChanged priceChanged(long brandId, int price) {
+        return new CatalogEvent.PriceChanged(brandId, brandId, "B" + brandId, Category.TOP,
+                price - 1, price);
+    }
+
+    @Test
+    void publish_ShouldDeliverEventsOfSameBrandInOrder() throws Exception {
+        // Given
+        int brands = 16;
+        int eventsPerBrand = 2_000;
+        List<CatalogEvent> received = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        bus = new CatalogEventBus(List.of(events -> {
+            synchronized (received) {
+                received.addAll(events);
+                batchSizes.add(events.size());
+            }
+        }), properties(4, 64, 32));
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int writer = 0; writer < 4; writer++) {
+            int first = writer;
+            futures.add(writers.submit(() -> {
+                for (int brand = first; brand < brands; brand += 4) {
+                    for (int price = 1; price <= eventsPerBrand; price++) {
+                        bus.publish(priceChanged(brand, price));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        writers.shutdown();
+        bus.destroy();
+
+        // Then
+        assertThat(bus.deliveredCount()).isEqualTo((long) brands * eventsPerBrand);
+        Map<Long, Integer> lastPrice = new HashMap<>();
+        for (CatalogEvent event : received) {
+            int price = ((CatalogEvent.PriceChanged) event).price();
+            assertThat(price).isEqualTo(lastPrice.getOrDefault(event.brandId(), 0) + 1);
+            lastPrice.put(event.brandId(), price);
+        }
+        assertThat(batchSizes).allMatch(size -> size <= 32);
+    }
+
+    @Test
+    void publish_ShouldBlockWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        bus = new CatalogEventBus(List.of(events -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), properties(1, 2, 1));
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+
+        // When: one event is held by the listener and two fill the queue
+        Future<?> publishing = writer.submit(() -> {
+            for (int price = 1; price <= 4; price++) {
+                bus.publish(priceChanged(1L, price));
+            }
+        });
+
+        // Then
+        assertThrows(TimeoutException.class,
+                () -> publishing.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        publishing.get(5, TimeUnit.SECONDS);
+        writer.shutdown();
+        assertThat(bus.publishedCount()).isEqualTo(4);
+    }
+
+    @Test
+    void publish_ShouldKeepDeliveringWhenListenerFails() throws Exception {
+        // Given
+        CountDownLatch delivered = new CountDownLatch(2);
+        bus = new CatalogEventBus(List.of(
+                events -> {
+                    throw new IllegalStateException("boom");
+                },
+                events -> events.forEach(event -> delivered.countDown())
+        ), properties(1, 16, 1));
+
+        // When
+        bus.publish(new CatalogEvent.BrandRemoved(1L));
+        bus.publish(new CatalogEvent.BrandRemoved(2L));
+
+        // Then
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void publish_InsideCatalogUpdate_ShouldNotStallOtherWritesWhenLaneIsSaturated()
+            throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        List<CatalogEvent> received = new ArrayList<>();
+        bus = new CatalogEventBus(List.of(events -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (received) {
+                received.addAll(events);
+            }
+        }), properties(1, 2, 1));
+        CatalogVersion catalogVersion = catalogVersion();
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+
+        // When: the first write saturates the lane and waits for room after its update
+        Future<?> saturating = writers.submit(() -> catalogVersion.update(() -> {
+            for (int price = 1; price <= 4; price++) {
+                bus.publish(priceChanged(1L, price));
+            }
+        }));
+        assertThrows(TimeoutException.class,
+                () -> saturating.get(200, TimeUnit.MILLISECONDS));
+        Future<?> next = writers.submit(() -> catalogVersion.update(
+                () -> bus.publish(priceChanged(2L, 5))));
+
+        // Then: the second write swaps its snapshot while the subscriber is still stuck
+        assertThat(catalogVersion.current()).isEqualTo(1);
+        assertThrows(TimeoutException.class, () -> next.get(200, TimeUnit.MILLISECONDS));
+        assertThat(catalogVersion.current()).isEqualTo(2);
+        release.countDown();
+        saturating.get(5, TimeUnit.SECONDS);
+        next.get(5, TimeUnit.SECONDS);
+        writers.shutdown();
+        bus.destroy();
+        assertThat(received).extracting(event -> ((CatalogEvent.PriceChanged) event).price())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void publish_WhenListenerWritesBackThroughCatalogUpdate_ShouldNotDeadlock() throws Exception {
+        // Given: the first delivery writes back while the publishing update is still running
+        CatalogVersion catalogVersion = catalogVersion();
+        CountDownLatch delivered = new CountDownLatch(4);
+        bus = new CatalogEventBus(List.of(events -> {
+            for (CatalogEvent event : events) {
+                if (event.brandId() == 1L) {
+                    catalogVersion.update(() -> bus.publish(new CatalogEvent.BrandRemoved(9L)));
+                }
+                delivered.countDown();
+            }
+        }), properties(1, 1, 1));
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+
+        // When: the update publishes more events than the lane holds
+        Future<?> publishing = writer.submit(() -> catalogVersion.update(() -> {
+            for (long brandId = 1; brandId <= 3; brandId++) {
+                bus.publish(new CatalogEvent.BrandRemoved(brandId));
+            }
+        }));
+
+        // Then
+        publishing.get(5, TimeUnit.SECONDS);
+        writer.shutdown();
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(catalogVersion.current()).isEqualTo(2);
+    }
+
+    @Test
+    void publish_AfterDestroy_ShouldThrowInsteadOfDropping() throws Exception {
+        // Given
+        bus = new CatalogEventBus(List.of(events -> {
+        }), properties(1, 16, 1));
+        bus.destroy();
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> bus.publish(new CatalogEvent.BrandRemoved(1L)));
+        assertThat(bus.publishedCount()).isZero();
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessLogFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    private AccessLogFilter filter(double sampleRate, double random) {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setMaxPayloadLength(8);
+        return new AccessLogFilter(properties, objectMapper, () -> random);
+    }
+
+    private JsonNode onlyEntry() throws IOException {
+        assertThat(appender.list).hasSize(1);
+        return objectMapper.readTree(appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void successfulRequest_ShouldOnlyBeLoggedWhenSampled() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                "/api/products/lowest-prices");
+
+        // When
+        filter(0.01, 0.5).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        filter(0.01, 0.001).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        JsonNode entry = onlyEntry();
+        assertThat(entry.get("reason").asText()).isEqualTo("sampled");
+        assertThat(entry.get("path").asText()).isEqualTo("/api/products/lowest-prices");
+        assertThat(entry.get("status").asInt()).isEqualTo(200);
+        assertThat(entry.has("requestBody")).isFalse();
+        assertThat(entry.has("headers")).isFalse();
+    }
+
+    @Test
+    void failedRequest_ShouldAlwaysBeLoggedWithCappedPayload() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/admin/brands");
+        request.setContentType("application/json");
+        request.setContent("{\"name\":\"duplicate\"}".getBytes(StandardCharsets.UTF_8));
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer secret");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res)
+                    throws IOException {
+                req.getInputStream().readAllBytes();
+                req.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, "이미 등록된 브랜드입니다.");
+                res.setStatus(HttpServletResponse.SC_CONFLICT);
+            }
+        });
+
+        // When
+        filter(0, 0.5).doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        JsonNode entry = onlyEntry();
+        assertThat(entry.get("reason").asText()).isEqualTo("error");
+        assertThat(entry.get("status").asInt()).isEqualTo(409);
+        assertThat(entry.get("requestBody").asText()).isEqualTo("{\"name\":...(truncated)");
+        assertThat(entry.get("error").asText()).isEqualTo("이미 등록된 브...(truncated)");
+        assertThat(entry.get("headers").get(HttpHeaders.AUTHORIZATION).asText()).isEqualTo("***");
+    }
+
+    @Test
+    void uncaughtException_ShouldBeLoggedAsServerError() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/products");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> filter(0, 0.5).doFilter(request, new MockHttpServletResponse(),
+                chain)).isInstanceOf(IllegalStateException.class);
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("\"status\":500");
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogLoadGate;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogLoadGateFilterTest {
+
+    private final CatalogLoadGate gate = new CatalogLoadGate();
+    private final CatalogLoadGateFilter filter = new CatalogLoadGateFilter(gate,
+            new ObjectMapper());
+
+    private MockHttpServletResponse perform(String method, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void beforeLoad_ShouldRejectIndexReadsAndAdminWritesOnly() throws Exception {
+        // When
+        MockHttpServletResponse read = perform("GET", "/api/products/lowest-prices");
+        MockHttpServletResponse write = perform("POST", "/api/admin/brands");
+        MockHttpServletResponse adminRead = perform("GET", "/api/admin/products");
+        MockHttpServletResponse health = perform("GET", "/actuator/health");
+
+        // Then
+        assertThat(read.getStatus()).isEqualTo(503);
+        assertThat(read.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(read.getContentAsString()).contains("\"success\":false");
+        assertThat(write.getStatus()).isEqualTo(503);
+        assertThat(adminRead.getStatus()).isEqualTo(200);
+        assertThat(health.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void reload_ShouldWaitForInFlightWriteAndRejectWritesMeanwhile() throws Exception {
+        // Given
+        gate.load(() -> {
+        });
+        assertThat(perform("GET", "/api/products/lowest-prices").getStatus()).isEqualTo(200);
+        assertThat(gate.tryBeginWrite()).isTrue();
+        CountDownLatch reloading = new CountDownLatch(1);
+
+        // When
+        Thread reload = new Thread(() -> gate.load(reloading::countDown));
+        reload.start();
+        Thread.sleep(200);
+        boolean startedBeforeWriteEnded = reloading.getCount() == 0;
+        int rejectedWrite = perform("DELETE", "/api/admin/products/1").getStatus();
+        gate.endWrite();
+
+        // Then
+        assertThat(startedBeforeWriteEnded).isFalse();
+        assertThat(rejectedWrite).isEqualTo(503);
+        assertThat(reloading.await(5, TimeUnit.SECONDS)).isTrue();
+        reload.join();
+        assertThat(perform("DELETE", "/api/admin/products/1").getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품이 있는 브랜드 삭제와 일괄 가격 변경이 DB와 메모리 카탈로그에 함께 반영되는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class BulkAdminIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private long registerBrand(String name, String csv) throws Exception {
+        String body = mockMvc.perform(post("/api/admin/brands")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(post("/api/admin/products/import")
+                        .contentType(MediaType.valueOf("text/csv"))
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.failed").value(0));
+        return Long.parseLong(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+    }
+
+    private void reprice(String body, int expectedStatus) throws Exception {
+        mockMvc.perform(post("/api/admin/products/reprice")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().is(expectedStatus));
+    }
+
+    @Test
+    void deleteBrand_ShouldRemoveBrandWithItsProducts() throws Exception {
+        // Given: 모자 최저가 브랜드
+        long brandId = registerBrand("bulk-delete", "bulk-delete,HAT,1\nbulk-delete,BAG,1\n");
+        mockMvc.perform(get("/api/products/categories/HAT/price-range"))
+                .andExpect(jsonPath("$.data.lowestPrices[0].brand").value("bulk-delete"));
+
+        // When
+        mockMvc.perform(delete("/api/admin/brands/" + brandId))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/admin/products?brand=bulk-delete"))
+                .andExpect(jsonPath("$.data.products", empty()));
+        mockMvc.perform(get("/api/products/categories/HAT/price-range"))
+                .andExpect(jsonPath("$.data.lowestPrices[0].brand").value("D"));
+        mockMvc.perform(delete("/api/admin/brands/" + brandId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void reprice_ShouldShiftPricesOntoEachOther() throws Exception {
+        // Given: 10% 인상하면 1,000원 상품이 지금 1,100원 상품의 가격이 됨
+        registerBrand("bulk-shift", "bulk-shift,SOCKS,1000\nbulk-shift,SOCKS,1100\n"
+                + "bulk-shift,SOCKS,1210\nbulk-shift,TOP,1000\n");
+
+        // When
+        mockMvc.perform(post("/api/admin/products/reprice")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"brand\":\"bulk-shift\",\"category\":\"SOCKS\","
+                                + "\"percent\":10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.repriced").value(3));
+
+        // Then
+        mockMvc.perform(get("/api/admin/products?brand=bulk-shift"))
+                .andExpect(jsonPath("$.data.products[*].price", contains(1100, 1210, 1331, 1000)));
+        mockMvc.perform(get("/api/products/categories/SOCKS/price-range"))
+                .andExpect(jsonPath("$.data.lowestPrices[0].brand").value("bulk-shift"))
+                .andExpect(jsonPath("$.data.lowestPrices[0].price").value(1100));
+    }
+
+    @Test
+    void reprice_ShouldRejectPricesThatCollide() throws Exception {
+        // Given
+        registerBrand("bulk-collide", "bulk-collide,PANTS,3000\nbulk-collide,PANTS,3100\n");
+
+        // When: 두 상품이 같은 가격이 됨
+        reprice("{\"brand\":\"bulk-collide\",\"price\":2000}", 409);
+
+        // Then: 아무것도 바뀌지 않음
+        mockMvc.perform(get("/api/admin/products?brand=bulk-collide"))
+                .andExpect(jsonPath("$.data.products[*].price", contains(3000, 3100)));
+    }
+
+    @Test
+    void reprice_ShouldRejectPricesAboveCap() throws Exception {
+        // Given
+        registerBrand("bulk-cap", "bulk-cap,OUTER,1000000\nbulk-cap,OUTER,99000000\n");
+
+        // When: 10% 올리면 비싼 상품이 가격 상한을 넘음
+        reprice("{\"brand\":\"bulk-cap\",\"percent\":10}", 400);
+
+        // Then: 아무것도 바뀌지 않음
+        mockMvc.perform(get("/api/admin/products?brand=bulk-cap"))
+                .andExpect(jsonPath("$.data.products[*].price", contains(1000000, 99000000)));
+    }
+
+    @Test
+    void reprice_ShouldRejectInvalidRequests() throws Exception {
+        reprice("{\"percent\":10}", 400);
+        reprice("{\"brand\":\"A\",\"price\":1000,\"percent\":10}", 400);
+        reprice("{\"brand\":\"A\",\"percent\":-100}", 400);
+        reprice("{\"brand\":\"A\",\"price\":100000001}", 400);
+        reprice("{\"brand\":\"nobody\",\"percent\":10}", 404);
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 도메인 예외와 Spring MVC 예외가 상태 코드와 함께 같은 형식의 실패 응답으로 바뀌는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class ErrorResponseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void invalidRequest_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/products/cheapest-brands?categories=TOP&limit=0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("limit은 1 이상 100 이하여야 합니다."))
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void missingEntity_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(delete("/api/admin/products/999999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
+    @Test
+    void duplicateBrand_ShouldReturnConflict() throws Exception {
+        mockMvc.perform(post("/api/admin/brands")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"A\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
+    @Test
+    void productPriceAboveCap_ShouldReturnBadRequest() throws Exception {
+        // Integer.MAX_VALUE is what the in-memory indexes use for "no product"
+        mockMvc.perform(post("/api/admin/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"brand\":\"A\",\"category\":\"HAT\",\"price\":"
+                                + Integer.MAX_VALUE + "}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(Product.PRICE_TOO_HIGH));
+        mockMvc.perform(post("/api/admin/products/import")
+                        .contentType(MediaType.valueOf("text/csv"))
+                        .content("A,HAT," + Integer.MAX_VALUE + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.errors[0].message").value(Product.PRICE_TOO_HIGH));
+    }
+
+    @Test
+    void duplicateProduct_ShouldReturnConflict() throws Exception {
+        String product = "{\"brand\":\"A\",\"category\":\"HAT\",\"price\":1234}";
+        mockMvc.perform(post("/api/admin/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(product))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/admin/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(product))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message")
+                        .value("이미 등록된 상품입니다: 브랜드=A, 카테고리=HAT, 가격=1234"));
+    }
+
+    @Test
+    void concurrentDuplicateProducts_ShouldRegisterOnlyOne() throws Exception {
+        // Given: 같은 상품을 동시에 등록
+        String product = "{\"brand\":\"B\",\"category\":\"BAG\",\"price\":4321}";
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statuses = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < requests; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/admin/products")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(product))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                results.add(status.get(10, TimeUnit.SECONDS));
+            }
+
+            // Then
+            assertThat(results).containsOnly(200, 409).containsOnlyOnce(200);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void malformedBody_ShouldUseSameErrorFormat() throws Exception {
+        mockMvc.perform(post("/api/admin/brands")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
+    @Test
+    void success_ShouldWrapDataWithoutMessage() throws Exception {
+        mockMvc.perform(get("/api/products/cheapest-brands?categories=TOP&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.brands.length()").value(1))
+                .andExpect(jsonPath("$.message").doesNotExist());
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트, 서비스, 저장소 호출의 지연 시간과 카탈로그 게이지, 거절 카운터, 커넥션 풀 지표가 Prometheus 형식으로 나오는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DirtiesContext
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpoint_ShouldExposeLatencyAndCatalogMetrics() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/admin/products?size=5")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/categories/TOP/price-range"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/cheapest-brands?categories=TOP&limit=0"))
+                .andExpect(status().isBadRequest());
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("http_server_requests_seconds\\{.*"
+                        + "uri=\"/api/products/categories/\\{category}/price-range\","
+                        + "quantile=\"0\\.999\"")
+                .containsPattern("catalog_service_seconds_bucket\\{.*class=\"[^\"]*AdminService\""
+                        + ".*method=\"getProducts\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{.*"
+                        + "repository=\"ProductRepository\"")
+                .containsPattern("catalog_products\\{.*category=\"TOP\".*} 9\\.0")
+                .containsPattern("api_requests_rejected_total\\{.*"
+                        + "exception=\"InvalidRequestException\".*status=\"400\".*} 1\\.0")
+                .contains("hikaricp_connections_pending{")
+                .contains("hikaricp_connections_acquire_seconds_bucket{");
+    }
+}
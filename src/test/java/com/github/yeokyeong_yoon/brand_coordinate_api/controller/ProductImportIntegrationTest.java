@@ -0,0 +1,90 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품 일괄 등록이 배치 단위로 적은 수의 SQL 문만 실행하고, 커밋 후 조회 결과에 반영되는지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ProductImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void importCsv_ShouldInsertInJdbcBatches() throws Exception {
+        StringBuilder csv = new StringBuilder("brand,category,price\n");
+        for (int i = 1; i <= 500; i++) {
+            csv.append("B,TOP,").append(100_000 + i).append('\n');
+        }
+
+        mockMvc.perform(post("/api/admin/products/import")
+                        .contentType("text/csv")
+                        .content(csv.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(500))
+                .andExpect(jsonPath("$.data.failed").value(0));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product WHERE price > 100000", Integer.class)).isEqualTo(500);
+        // brand lookup + duplicate check + 10 sequence calls + 10 insert batches of 50
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(22);
+    }
+
+    @Test
+    void importNdjson_ShouldReportRowErrorsAndUpdateLowestPrices() throws Exception {
+        String ndjson = """
+                {"brand":"A","category":"TOP","price":100}
+                {"brand":"A","category":"TOP","price":11200}
+                {"brand":"NOPE","category":"TOP","price":200}
+                """;
+
+        mockMvc.perform(post("/api/admin/products/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.received").value(3))
+                .andExpect(jsonPath("$.data.imported").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(2))
+                .andExpect(jsonPath("$.data.errors[1].message").value("브랜드를 찾을 수 없습니다: NOPE"));
+
+        mockMvc.perform(get("/api/products/lowest-prices"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.categories[?(@.category == 'TOP')].brandPrices[0].brand")
+                        .value("A"))
+                .andExpect(jsonPath("$.data.categories[?(@.category == 'TOP')].brandPrices[0].price")
+                        .value(100));
+    }
+}
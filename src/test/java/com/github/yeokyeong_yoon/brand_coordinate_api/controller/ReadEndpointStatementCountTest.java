@@ -0,0 +1,183 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 API마다 실행되는 SQL 문 수를 고정합니다. 브랜드 수가 늘어나도 문 수는 변하지 않아야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class ReadEndpointStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PriceRangeCache priceRangeCache;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ProductColumns productColumns;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        // Rows inserted by @Transactional tests never commit, so the caches never hear of them.
+        catalogVersion.update(priceRangeCache::invalidateAll);
+    }
+
+    @Test
+    void lowestPrices_ShouldBeServedWithoutSql() throws Exception {
+        mockMvc.perform(get("/api/products/lowest-prices"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalPrice").value(34100));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void cheapestBrand_ShouldBeServedWithoutSql() throws Exception {
+        mockMvc.perform(post("/api/products/cheapest-brand")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categories\":[\"TOP\",\"PANTS\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].brand").value("D"));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void priceRange_ShouldBeServedWithoutSql() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/products/categories/TOP/price-range"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.lowestPrices[0].brand").value("C"))
+                    .andExpect(jsonPath("$.data.highestPrices[0].brand").value("I"));
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void priceRange_ShouldBeServedWithoutSqlRegardlessOfBrandCount() throws Exception {
+        // Tied brands go straight into the columns, as an admin write would after commit.
+        int tiedBrands = 2_000;
+        catalogVersion.update(() -> {
+            for (long id = 1; id <= tiedBrands; id++) {
+                productColumns.add(-id, "N" + id, Category.TOP, 10000);
+            }
+            priceRangeCache.invalidateAll();
+        });
+        try {
+            mockMvc.perform(get("/api/products/categories/TOP/price-range"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.lowestPrices.length()").value(tiedBrands + 1));
+        } finally {
+            catalogVersion.update(() -> {
+                for (long id = 1; id <= tiedBrands; id++) {
+                    productColumns.removeBrand(-id);
+                }
+                priceRangeCache.invalidateAll();
+            });
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    void adminProducts_ShouldUseSingleStatementPerPageRegardlessOfBrandCount() throws Exception {
+        insertBrandsWithTopPrice(2_000, 10000);
+        statistics.clear();
+
+        MvcResult firstPage = mockMvc.perform(get("/api/admin/products").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products.length()").value(1000))
+                .andExpect(jsonPath("$.data.products[0].brand.name").value("A"))
+                .andExpect(jsonPath("$.data.nextCursor").isNumber())
+                .andReturn();
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(),
+                "$.data.nextCursor").toString();
+
+        mockMvc.perform(get("/api/admin/products")
+                        .param("after", cursor)
+                        .param("size", "1000")
+                        .param("category", "TOP")
+                        .param("minPrice", "10000")
+                        .param("maxPrice", "10000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products[0].category").value("TOP"))
+                .andExpect(jsonPath("$.data.products[0].price").value(10000));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void adminProductExport_ShouldStreamAllRowsWithSingleStatement() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(72))
+                .andExpect(jsonPath("$[0].brand.name").value("A"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private int insertBrandsWithTopPrice(int count, int price) {
+        List<Object[]> brands = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            brands.add(new Object[]{"N" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO brand (name) VALUES (?)", brands);
+        jdbcTemplate.update("""
+                INSERT INTO product (brand_id, category, price)
+                SELECT id, 'TOP', ? FROM brand WHERE name LIKE 'N%'
+                """, price);
+        return count;
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.RenderedResponseCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 응답이 카탈로그 버전마다 한 번만 직렬화되고, gzip 변형이 같은 내용을 담는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class RenderedResponseIntegrationTest {
+
+    private static final String PRICE_RANGE = "/api/products/categories/TOP/price-range";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RenderedResponseCache renderedResponses;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void priceRange_ShouldServeBytesRenderedOncePerVersion() throws Exception {
+        byte[] first = mockMvc.perform(get(PRICE_RANGE))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY,
+                        hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.lowestPrices[0].brand").value("C"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        RenderedResponseCache.RenderedResponse cached = renderedResponses.get("price-range:TOP",
+                catalogVersion.current(), () -> fail("should not render again"));
+        assertThat(cached.json()).isEqualTo(first);
+    }
+
+    @Test
+    void lowestPrices_ShouldServeGzipVariantWithItsOwnEtag() throws Exception {
+        MockHttpServletResponse plain = mockMvc.perform(get("/api/products/lowest-prices"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/api/products/lowest-prices")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+
+        assertThat(gunzip(gzipped.getContentAsByteArray()))
+                .isEqualTo(plain.getContentAsByteArray());
+        String gzipEtag = gzipped.getHeader(HttpHeaders.ETAG);
+        assertThat(gzipEtag).isNotEqualTo(plain.getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+
+        mockMvc.perform(get("/api/products/lowest-prices")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/products/lowest-prices")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void priceRange_ShouldRenderAgainAfterWrite() throws Exception {
+        String uri = "/api/products/categories/HAT/price-range";
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/admin/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"brand\":\"A\",\"category\":\"HAT\",\"price\":50}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.lowestPrices[0].brand").value("A"))
+                .andExpect(jsonPath("$.data.lowestPrices[0].price").value(50));
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.controller;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.diagnostics.SqlDiagnosticsAdvice;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 합성 카탈로그(브랜드 1,000개, 상품 4만 개)에서 엔드포인트마다 실행되는 SQL 문 수와 엔티티 로드 수의 상한을 고정합니다.
+ * <p>
+ * {@code diagnostics} 프로필이 응답 헤더로 내려주는 요청별 통계를 읽습니다. 상한은 카탈로그 크기와 상관없는 상수여야 하며,
+ * 이 테스트가 깨지면 브랜드나 상품 수에 비례하는 쿼리(N+1)가 생긴 것입니다.
+ */
+@SpringBootTest(properties = {
+        "catalog.synthetic.brands=1000",
+        "catalog.synthetic.products-per-brand-category=5"
+})
+@ActiveProfiles({"perf", "diagnostics"})
+@AutoConfigureMockMvc
+@DirtiesContext
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private MockHttpServletResponse perform(RequestBuilder request, int maxStatements,
+            int maxEntityLoads) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(SqlDiagnosticsAdvice.STATEMENTS)).isNotNull();
+        assertThat(Integer.parseInt(response.getHeader(SqlDiagnosticsAdvice.STATEMENTS)))
+                .isLessThanOrEqualTo(maxStatements);
+        assertThat(Integer.parseInt(response.getHeader(SqlDiagnosticsAdvice.ENTITY_LOADS)))
+                .isLessThanOrEqualTo(maxEntityLoads);
+        return response;
+    }
+
+    private static MediaType json() {
+        return MediaType.APPLICATION_JSON;
+    }
+
+    @Test
+    @Order(1)
+    void readEndpoints_ShouldStayWithinStatementBudget() throws Exception {
+        perform(get("/api/products/lowest-prices"), 0, 0);
+        perform(get("/api/products/cheapest-brand?categories=TOP,PANTS"), 0, 0);
+        perform(post("/api/products/cheapest-brand").contentType(json())
+                .content("{\"categories\":[\"TOP\",\"PANTS\",\"BAG\"]}"), 0, 0);
+        perform(get("/api/products/cheapest-brands?categories=TOP,PANTS&limit=100"), 0, 0);
+
+        // Served from the in-memory product columns, so even a cache miss runs no SQL.
+        perform(get("/api/products/categories/SOCKS/price-range"), 0, 0);
+        perform(get("/api/products/categories/SOCKS/price-range"), 0, 0);
+
+        MockHttpServletResponse page = perform(get("/api/admin/products?size=1000"), 1, 0);
+        assertThat(Long.parseLong(page.getHeader(SqlDiagnosticsAdvice.ROWS))).isEqualTo(1001);
+        perform(get("/api/admin/products?category=TOP&minPrice=1000&maxPrice=50000&size=1000"),
+                1, 0);
+    }
+
+    @Test
+    @Order(2)
+    void adminWrites_ShouldStayWithinStatementBudget() throws Exception {
+        MockHttpServletResponse brand = perform(post("/api/admin/brands").contentType(json())
+                .content("{\"name\":\"budget\"}"), 2, 0);
+        long brandId = ((Number) JsonPath.read(brand.getContentAsString(), "$.data.id"))
+                .longValue();
+        perform(put("/api/admin/brands/" + brandId).contentType(json())
+                .content("{\"name\":\"budget-renamed\"}"), 3, 1);
+
+        // Brand lookup and one MERGE that both checks for a duplicate and inserts.
+        MockHttpServletResponse product = perform(post("/api/admin/products").contentType(json())
+                .content("{\"brand\":\"budget-renamed\",\"category\":\"TOP\",\"price\":10}"),
+                2, 1);
+        long productId = ((Number) JsonPath.read(product.getContentAsString(), "$.data.id"))
+                .longValue();
+        perform(delete("/api/admin/products/" + productId), 2, 1);
+
+        // Brand lookup, duplicate check and one batched insert; the sequence may need a new block.
+        perform(post("/api/admin/products/import").contentType(MediaType.valueOf("text/csv"))
+                .content("budget-renamed,PANTS,10\nbudget-renamed,BAG,20\nnobody,TOP,10\n"), 4, 1);
+
+        // Brand lookup, rows before and two updates: the same for 1 or 10,000 products.
+        perform(post("/api/admin/products/reprice").contentType(json())
+                .content("{\"brand\":\"budget-renamed\",\"percent\":10}"), 4, 1);
+        perform(post("/api/admin/products/reprice").contentType(json())
+                .content("{\"category\":\"SOCKS\",\"percent\":-10}"), 3, 0);
+
+        MockHttpServletResponse empty = perform(post("/api/admin/brands").contentType(json())
+                .content("{\"name\":\"budget-empty\"}"), 2, 0);
+        perform(delete("/api/admin/brands/"
+                + JsonPath.read(empty.getContentAsString(), "$.data.id")), 2, 0);
+        // A brand with products is deleted the same way, two bulk deletes.
+        perform(delete("/api/admin/brands/" + brandId), 2, 0);
+    }
+}
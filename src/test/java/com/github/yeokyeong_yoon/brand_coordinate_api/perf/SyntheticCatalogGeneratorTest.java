@@ -0,0 +1,132 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.perf;
+
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SyntheticCatalogGeneratorTest {
+
+    private SyntheticCatalogProperties properties(long seed) {
+        SyntheticCatalogProperties properties = new SyntheticCatalogProperties();
+        properties.setSeed(seed);
+        properties.setBrands(12);
+        properties.setProductsPerBrandCategory(3);
+        return properties;
+    }
+
+    private List<String> rows(SyntheticCatalogProperties properties) {
+        List<String> rows = new ArrayList<>();
+        new SyntheticCatalogGenerator(properties).generateProducts(
+                (brand, category, price) -> rows.add(brand + "," + category + "," + price));
+        return rows;
+    }
+
+    @Test
+    void generateProducts_ShouldBeReproducibleForSameSeed() {
+        // When
+        List<String> first = rows(properties(7L));
+        List<String> second = rows(properties(7L));
+        List<String> otherSeed = rows(properties(8L));
+
+        // Then
+        assertThat(first).hasSize(12 * Category.values().length * 3);
+        assertThat(second).isEqualTo(first);
+        assertThat(otherSeed).isNotEqualTo(first);
+    }
+
+    @Test
+    void generateProducts_ShouldRespectPriceRangeAndStep() {
+        // Given
+        SyntheticCatalogProperties properties = properties(1L);
+        properties.setMinPrice(2_000);
+        properties.setMaxPrice(3_000);
+        properties.setPriceStep(500);
+        properties.setDistribution(SyntheticCatalogProperties.PriceDistribution.SKEWED);
+        List<Integer> prices = new ArrayList<>();
+
+        // When
+        new SyntheticCatalogGenerator(properties).generateProducts(
+                (brand, category, price) -> prices.add(price));
+
+        // Then
+        assertThat(prices).allMatch(price -> price == 2_000 || price == 2_500 || price == 3_000);
+    }
+
+    @Test
+    void generateProducts_ShouldPinAllPricesToMinimumWhenTieRateIsOne() {
+        // Given: 한 브랜드의 한 카테고리에는 같은 가격이 하나뿐이므로 카테고리별 상품을 하나로 둠
+        SyntheticCatalogProperties properties = properties(1L);
+        properties.setProductsPerBrandCategory(1);
+        properties.setTieRate(1.0);
+        List<Integer> prices = new ArrayList<>();
+
+        // When
+        new SyntheticCatalogGenerator(properties).generateProducts(
+                (brand, category, price) -> prices.add(price));
+
+        // Then
+        assertThat(prices).containsOnly(properties.getMinPrice());
+    }
+
+    @Test
+    void generateProducts_ShouldNotRepeatPriceWithinBrandAndCategory() {
+        // Given: 가격이 세 가지뿐이고 모두 최저가로 몰리는 설정
+        SyntheticCatalogProperties properties = properties(5L);
+        properties.setMinPrice(2_000);
+        properties.setMaxPrice(3_000);
+        properties.setPriceStep(500);
+        properties.setTieRate(0.9);
+
+        // When
+        List<String> rows = rows(properties);
+
+        // Then
+        assertThat(rows).hasSize(12 * Category.values().length * 3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void constructor_ShouldRejectMoreProductsThanDistinctPrices() {
+        // Given
+        SyntheticCatalogProperties properties = properties(1L);
+        properties.setMinPrice(2_000);
+        properties.setMaxPrice(2_500);
+        properties.setPriceStep(500);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new SyntheticCatalogGenerator(properties));
+    }
+
+    @Test
+    void writeCsv_ShouldWriteHeaderAndOneLinePerProduct() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties(3L));
+        StringWriter writer = new StringWriter();
+
+        // When
+        generator.writeCsv(writer);
+
+        // Then
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines[0]).isEqualTo("brand,category,price");
+        assertThat(lines).hasSize(1 + (int) generator.productCount());
+        assertThat(lines[1]).startsWith("BRAND-00,TOP,");
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidTieRate() {
+        // Given
+        SyntheticCatalogProperties properties = properties(1L);
+        properties.setTieRate(1.5);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new SyntheticCatalogGenerator(properties));
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.replica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code replica} 프로필에서 운영자 조회가 최신 복제본에서 읽고, 복제본이 뒤처지거나 같은 세션이 방금 쓴 버전을 요구하면
+ * 프라이머리에서 읽는지 확인합니다.
+ * <p>
+ * 주기적 동기화는 끄고 직접 {@link ReplicaSynchronizer#sync()}를 불러 복제본 버전을 정합니다. 복제본에만 넣은 상품으로
+ * 어느 DB에서 읽었는지 구분합니다.
+ */
+@SpringBootTest(properties = {
+        "catalog.replica.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1",
+        "catalog.replica.sync-interval=1h",
+        "catalog.replica.max-lag=1"
+})
+@ActiveProfiles("replica")
+@AutoConfigureMockMvc
+@DirtiesContext
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaSynchronizer replicaSynchronizer;
+
+    @Autowired
+    private ReplicaLag replicaLag;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    private ResultActions cheapTops(Cookie... cookies) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/admin/products")
+                .param("category", "TOP")
+                .param("maxPrice", "100");
+        return mockMvc.perform(cookies.length == 0 ? request : request.cookie(cookies))
+                .andExpect(status().isOk());
+    }
+
+    private Cookie registerProduct(String brand, int price) throws Exception {
+        return mockMvc.perform(post("/api/admin/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"brand\":\"" + brand + "\",\"category\":\"TOP\",\"price\":"
+                                + price + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie(ReadYourWrites.COOKIE);
+    }
+
+    private double replicaReads() {
+        return meterRegistry.get("catalog.replica.reads").tag("target", "replica")
+                .functionCounter().count();
+    }
+
+    @Test
+    void adminReads_ShouldUseReplicaUnlessItLagsOrMissesTheSessionsWrite() throws Exception {
+        // Given: 복제본에만 있는 7원짜리 상의
+        replicaSynchronizer.sync();
+        assertThat(replicaLag.lag()).isZero();
+        new JdbcTemplate(replica).update("INSERT INTO product (id, brand_id, category, price) "
+                + "SELECT 1000000, id, 'TOP', 7 FROM brand WHERE name = 'A'");
+
+        // When & Then: 최신 복제본에서 읽음
+        double before = replicaReads();
+        cheapTops().andExpect(jsonPath("$.data.products[*].price", contains(7)));
+        assertThat(replicaReads()).isEqualTo(before + 1);
+
+        // When: 운영자 쓰기 한 번
+        Cookie version = registerProduct("B", 8);
+
+        // Then: 한 버전 뒤처진 복제본은 max-lag 안이지만, 방금 쓴 세션은 프라이머리에서 자기 쓰기를 읽음
+        assertThat(version).isNotNull();
+        assertThat(replicaLag.lag()).isEqualTo(1);
+        cheapTops().andExpect(jsonPath("$.data.products[*].price", contains(7)));
+        cheapTops(version).andExpect(jsonPath("$.data.products[*].price", contains(8)));
+
+        // When: 한 번 더 쓰면 max-lag를 넘음
+        registerProduct("C", 9);
+
+        // Then: 쿠키가 없어도 프라이머리에서 읽음
+        cheapTops().andExpect(jsonPath("$.data.products[*].price", contains(8, 9)));
+
+        // When: 복제본이 따라잡음
+        replicaSynchronizer.sync();
+
+        // Then: 쿠키가 있어도 복제본에서 읽고, 복제본에만 있던 행은 사라짐
+        before = replicaReads();
+        cheapTops(version).andExpect(jsonPath("$.data.products[*].price", contains(8, 9)));
+        assertThat(replicaReads()).isEqualTo(before + 1);
+        assertThat(replicaLag.lag()).isZero();
+    }
+}
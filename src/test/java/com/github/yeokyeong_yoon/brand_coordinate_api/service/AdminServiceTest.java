@@ -1,26 +1,54 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEvent;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.BrandRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductPageResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductSearchRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RepriceRequest;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RepriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.DuplicateException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,8 +58,19 @@ class AdminServiceTest {
     private BrandRepository brandRepository;
     @Mock
     private ProductRepository productRepository;
+    @Mock
+    private ProductColumns productColumns;
+    @Mock
+    private CategoryPriceIndex categoryPriceIndex;
+    @Mock
+    private BrandPriceMatrix brandPriceMatrix;
+    @Mock
+    private PriceRangeCache priceRangeCache;
+    @Mock
+    private CatalogVersion catalogVersion;
+    @Mock
+    private CatalogEventBus catalogEventBus;
 
-    @InjectMocks
     private AdminService adminService;
 
     private Brand brandA;
@@ -41,6 +80,19 @@ class AdminServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Index updates run inside the catalog version's update, so the mock has to run them.
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(catalogVersion).update(any());
+        // Brand deletes delegate to the real BrandService, which shares the same mocks.
+        BrandService brandService = new BrandService(brandRepository, productRepository,
+                productColumns, categoryPriceIndex, brandPriceMatrix, priceRangeCache,
+                catalogVersion, catalogEventBus);
+        adminService = new AdminService(brandRepository, productRepository, productColumns,
+                categoryPriceIndex, brandPriceMatrix, priceRangeCache, catalogVersion,
+                catalogEventBus, brandService);
+
         brandA = new Brand();
         brandA.setId(1L);
         brandA.setName("A");
@@ -118,43 +170,99 @@ class AdminServiceTest {
     @Test
     void deleteBrand_ShouldDeleteBrand() {
         // Given
-        when(brandRepository.existsById(1L)).thenReturn(true);
+        when(brandRepository.deleteBrandById(1L)).thenReturn(1);
 
-        // When & Then
+        // When
         adminService.deleteBrand(1L);
-        // No exception should be thrown
+
+        // Then
+        InOrder inOrder = inOrder(productRepository, brandRepository);
+        inOrder.verify(productRepository).deleteByBrandId(1L);
+        inOrder.verify(brandRepository).deleteBrandById(1L);
+        verify(productColumns).removeBrand(1L);
+        verify(priceRangeCache).invalidateAll();
+        verify(catalogEventBus).publish(new CatalogEvent.BrandRemoved(1L));
     }
 
     @Test
     void deleteBrand_WhenBrandNotFound_ShouldThrowException() {
         // Given
-        when(brandRepository.existsById(1L)).thenReturn(false);
+        when(brandRepository.deleteBrandById(1L)).thenReturn(0);
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () -> adminService.deleteBrand(1L));
+        verify(catalogVersion, never()).update(any());
     }
 
     @Test
     void registerProduct_ShouldCreateNewProduct() {
         // Given
         ProductRequest request = new ProductRequest("A", Category.SNEAKERS, 30000);
-
-        Product expectedProduct = new Product();
-        expectedProduct.setId(1L);
-        expectedProduct.setBrand(brandA);
-        expectedProduct.setCategory(Category.SNEAKERS);
-        expectedProduct.setPrice(30000);
-
         when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
-        when(productRepository.save(any(Product.class))).thenReturn(expectedProduct);
+        when(productRepository.insertIfAbsent(1L, "SNEAKERS", 30000)).thenReturn(Optional.of(10L));
 
         // When
         Product result = adminService.registerProduct(request);
 
         // Then
+        assertThat(result.getId()).isEqualTo(10L);
         assertThat(result.getBrand().getName()).isEqualTo("A");
         assertThat(result.getCategory()).isEqualTo(Category.SNEAKERS);
         assertThat(result.getPrice()).isEqualTo(30000);
+        verify(categoryPriceIndex).add(1L, "A", Category.SNEAKERS, 30000);
+        verify(brandPriceMatrix).add(1L, "A", Category.SNEAKERS, 30000);
+        verify(catalogVersion).update(any());
+    }
+
+    @Test
+    void productWrites_WhenPriceAboveCap_ShouldRejectBeforeTouchingRepositories() {
+        // Integer.MAX_VALUE is what the in-memory indexes use for "no product"
+        assertThrows(InvalidRequestException.class, () -> adminService.registerProduct(
+                new ProductRequest("A", Category.TOP, Integer.MAX_VALUE)));
+        assertThrows(InvalidRequestException.class, () -> adminService.updateProduct(1L,
+                new ProductRequest("A", Category.TOP, Product.MAX_PRICE + 1)));
+        verifyNoMoreInteractions(brandRepository, productRepository);
+        verify(catalogVersion, never()).update(any());
+    }
+
+    @Test
+    void registerProduct_WhenProductExists_ShouldThrowDuplicateException() {
+        // Given
+        ProductRequest request = new ProductRequest("A", Category.TOP, 10000);
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(productRepository.insertIfAbsent(1L, "TOP", 10000)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(DuplicateException.class, () -> adminService.registerProduct(request));
+        verify(catalogVersion, never()).update(any());
+    }
+
+    @Test
+    void registerProduct_WhenConcurrentInsertWins_ShouldThrowDuplicateException() {
+        // Given: 다른 트랜잭션이 같은 상품을 먼저 커밋해 유일 제약에 걸림
+        ProductRequest request = new ProductRequest("A", Category.TOP, 10000);
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(productRepository.insertIfAbsent(1L, "TOP", 10000)).thenThrow(
+                new DataIntegrityViolationException("unique",
+                        new SQLException("Unique index or primary key violation", "23505")));
+
+        // When & Then
+        assertThrows(DuplicateException.class, () -> adminService.registerProduct(request));
+        verify(catalogVersion, never()).update(any());
+    }
+
+    @Test
+    void registerProduct_WhenBrandDeletedConcurrently_ShouldNotReportDuplicate() {
+        // Given: 외래 키 위반은 중복이 아님
+        ProductRequest request = new ProductRequest("A", Category.TOP, 10000);
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(productRepository.insertIfAbsent(1L, "TOP", 10000)).thenThrow(
+                new DataIntegrityViolationException("foreign key",
+                        new SQLException("Referential integrity constraint violation", "23506")));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> adminService.registerProduct(request));
     }
 
     @Test
@@ -173,7 +281,7 @@ class AdminServiceTest {
         ProductRequest request = new ProductRequest("B", Category.OUTER, 25000);
         when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
         when(brandRepository.findByName("B")).thenReturn(Optional.of(brandB));
-        when(productRepository.save(any(Product.class))).thenReturn(product1);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product1);
 
         // When
         Product result = adminService.updateProduct(1L, request);
@@ -182,6 +290,48 @@ class AdminServiceTest {
         assertThat(result.getBrand().getName()).isEqualTo("B");
         assertThat(result.getCategory()).isEqualTo(Category.OUTER);
         assertThat(result.getPrice()).isEqualTo(25000);
+        verify(categoryPriceIndex).remove(1L, Category.TOP, 10000);
+        verify(categoryPriceIndex).add(2L, "B", Category.OUTER, 25000);
+        verify(brandPriceMatrix).remove(1L, Category.TOP, 10000);
+        verify(brandPriceMatrix).add(2L, "B", Category.OUTER, 25000);
+        InOrder inOrder = inOrder(catalogEventBus);
+        inOrder.verify(catalogEventBus).publish(
+                new CatalogEvent.ProductRemoved(1L, 1L, Category.TOP, 10000));
+        inOrder.verify(catalogEventBus).publish(
+                new CatalogEvent.ProductAdded(1L, 2L, "B", Category.OUTER, 25000));
+    }
+
+    @Test
+    void updateProduct_WhenOnlyPriceChanges_ShouldPublishPriceChanged() {
+        // Given
+        ProductRequest request = new ProductRequest("A", Category.TOP, 9000);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product1);
+
+        // When
+        adminService.updateProduct(1L, request);
+
+        // Then
+        verify(catalogEventBus).publish(
+                new CatalogEvent.PriceChanged(1L, 1L, "A", Category.TOP, 10000, 9000));
+        verifyNoMoreInteractions(catalogEventBus);
+    }
+
+    @Test
+    void updateProduct_WhenAnotherProductHasSameKey_ShouldThrowDuplicateException() {
+        // Given
+        ProductRequest request = new ProductRequest("B", Category.PANTS, 20000);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(brandRepository.findByName("B")).thenReturn(Optional.of(brandB));
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(
+                new DataIntegrityViolationException("unique",
+                        new SQLException("Unique index or primary key violation", "23505")));
+
+        // When & Then
+        assertThrows(DuplicateException.class, () -> adminService.updateProduct(1L, request));
+        verify(catalogVersion, never()).update(any());
+        verify(catalogEventBus, never()).publish(any());
     }
 
     @Test
@@ -197,22 +347,116 @@ class AdminServiceTest {
     @Test
     void deleteProduct_ShouldDeleteProduct() {
         // Given
-        when(productRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
 
-        // When & Then
+        // When
         adminService.deleteProduct(1L);
-        // No exception should be thrown
+
+        // Then
+        verify(productRepository).delete(product1);
+        verify(categoryPriceIndex).remove(1L, Category.TOP, 10000);
+        verify(brandPriceMatrix).remove(1L, Category.TOP, 10000);
+        verify(catalogEventBus).publish(
+                new CatalogEvent.ProductRemoved(1L, 1L, Category.TOP, 10000));
+    }
+
+    @Test
+    void deleteProduct_ShouldPublishInsideCatalogUpdate() {
+        // Given: 메모리 인덱스 갱신을 실행하지 않는 카탈로그 버전
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        doNothing().when(catalogVersion).update(any());
+
+        // When
+        adminService.deleteProduct(1L);
+
+        // Then: 이벤트는 버전 순서를 지키도록 갱신 안에서만 큐에 들어감
+        verify(catalogEventBus, never()).publish(any());
     }
 
     @Test
     void deleteProduct_WhenProductNotFound_ShouldThrowException() {
         // Given
-        when(productRepository.existsById(1L)).thenReturn(false);
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () -> adminService.deleteProduct(1L));
     }
 
+    @Test
+    void repriceProducts_ShouldUpdateCatalogOncePerOperation() {
+        // Given
+        RepriceRequest request = new RepriceRequest("A", Category.TOP, null, -10);
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(productRepository.streamPriceViews("A", Category.TOP, null, null))
+                .thenReturn(Stream.of(new ProductPriceView(1L, 1L, "A", Category.TOP, 10000),
+                        new ProductPriceView(3L, 1L, "A", Category.TOP, 12000)));
+
+        // When
+        RepriceResponse response = adminService.repriceProducts(request);
+
+        // Then
+        assertThat(response.repriced()).isEqualTo(2);
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).stagePriceByPercent(1L, Category.TOP, -10);
+        inOrder.verify(productRepository).publishStagedPrices(1L, Category.TOP);
+        // New prices come from the rows read before the update; nothing is read back.
+        verify(productRepository).streamPriceViews("A", Category.TOP, null, null);
+        verify(catalogVersion).update(any());
+        verify(productColumns).reprice(1L, Category.TOP, Map.of(10000, 9000, 12000, 10800));
+        verify(categoryPriceIndex).reload();
+        verify(brandPriceMatrix).reload();
+        verify(priceRangeCache).invalidate(Category.TOP);
+        verifyNoMoreInteractions(priceRangeCache);
+        verify(catalogEventBus).publishAll(List.of(
+                new CatalogEvent.PriceChanged(1L, 1L, "A", Category.TOP, 10000, 9000),
+                new CatalogEvent.PriceChanged(3L, 1L, "A", Category.TOP, 12000, 10800)));
+    }
+
+    @Test
+    void repriceProducts_WhenPricesCollide_ShouldThrowDuplicateException() {
+        // Given
+        RepriceRequest request = new RepriceRequest(null, Category.PANTS, 5000, null);
+        when(productRepository.streamPriceViews(null, Category.PANTS, null, null))
+                .thenReturn(Stream.of(ProductPriceView.of(product2)));
+        when(productRepository.stagePrice(null, Category.PANTS, 5000)).thenThrow(
+                new DataIntegrityViolationException("unique",
+                        new SQLException("Unique index or primary key violation", "23505")));
+
+        // When & Then
+        assertThrows(DuplicateException.class, () -> adminService.repriceProducts(request));
+        verify(productRepository, never()).publishStagedPrices(any(), any());
+        verify(catalogVersion, never()).update(any());
+    }
+
+    @Test
+    void repriceProducts_ShouldRejectInvalidRequests() {
+        assertThrows(InvalidRequestException.class, () -> adminService.repriceProducts(
+                new RepriceRequest(null, null, 1000, null)));
+        assertThrows(InvalidRequestException.class, () -> adminService.repriceProducts(
+                new RepriceRequest("A", null, null, null)));
+        assertThrows(InvalidRequestException.class, () -> adminService.repriceProducts(
+                new RepriceRequest("A", null, 0, null)));
+        assertThrows(InvalidRequestException.class, () -> adminService.repriceProducts(
+                new RepriceRequest("A", null, null, AdminService.MIN_PERCENT - 1)));
+        assertThrows(InvalidRequestException.class, () -> adminService.repriceProducts(
+                new RepriceRequest("A", null, Product.MAX_PRICE + 1, null)));
+        verifyNoMoreInteractions(brandRepository, productRepository);
+    }
+
+    @Test
+    void repriceProducts_WhenPriceWouldExceedCap_ShouldRejectBeforeUpdating() {
+        // Given: 10% 올리면 한 상품이 가격 상한을 넘음
+        RepriceRequest request = new RepriceRequest(null, Category.BAG, null, 10);
+        when(productRepository.streamPriceViews(null, Category.BAG, null, null))
+                .thenReturn(Stream.of(new ProductPriceView(1L, 1L, "A", Category.BAG, 1000),
+                        new ProductPriceView(2L, 2L, "B", Category.BAG, 95_000_000)));
+
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> adminService.repriceProducts(request));
+        verify(productRepository, never()).stagePriceByPercent(any(), any(), anyInt());
+        verify(catalogVersion, never()).update(any());
+    }
+
     @Test
     void getAllBrands_ShouldReturnAllBrands() {
         // Given
@@ -230,14 +474,85 @@ class AdminServiceTest {
     @Test
     void getAllProducts_ShouldReturnAllProducts() {
         // Given
-        List<Product> products = Arrays.asList(product1, product2);
-        when(productRepository.findAll()).thenReturn(products);
+        ProductSearchRequest search = new ProductSearchRequest(null, null, null, null);
+        when(productRepository.findPriceViewsAfter(0L, null, null, null, null,
+                Limit.of(AdminService.MAX_PAGE_SIZE + 1))).thenReturn(Arrays.asList(
+                ProductPriceView.of(product1), ProductPriceView.of(product2)));
 
         // When
-        List<Product> result = adminService.getAllProducts();
+        ProductPageResponse result = adminService.getProducts(search, null,
+                AdminService.MAX_PAGE_SIZE);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyInAnyOrder(product1, product2);
+        assertThat(result.products()).containsExactly(
+                new ProductResponse(1L, new ProductResponse.BrandSummary(1L, "A"), Category.TOP,
+                        10000),
+                new ProductResponse(2L, new ProductResponse.BrandSummary(2L, "B"),
+                        Category.PANTS, 20000));
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getProducts_ShouldReturnPageAndNextCursor() {
+        // Given
+        ProductSearchRequest search = new ProductSearchRequest(null, null, null, null);
+        when(productRepository.findPriceViewsAfter(0L, null, null, null, null, Limit.of(2)))
+                .thenReturn(Arrays.asList(ProductPriceView.of(product1), ProductPriceView.of(product2)));
+
+        // When
+        ProductPageResponse result = adminService.getProducts(search, null, 1);
+
+        // Then
+        assertThat(result.products()).containsExactly(
+                new ProductResponse(1L, new ProductResponse.BrandSummary(1L, "A"), Category.TOP,
+                        10000));
+        assertThat(result.nextCursor()).isEqualTo(1L);
+    }
+
+    @Test
+    void getProducts_ShouldPassFiltersAndEndOnLastPage() {
+        // Given
+        ProductSearchRequest search = new ProductSearchRequest("B", Category.PANTS, 1000, 30000);
+        when(productRepository.findPriceViewsAfter(1L, "B", Category.PANTS, 1000, 30000,
+                Limit.of(11))).thenReturn(List.of(ProductPriceView.of(product2)));
+
+        // When
+        ProductPageResponse result = adminService.getProducts(search, 1L, 10);
+
+        // Then
+        assertThat(result.products()).containsExactly(
+                new ProductResponse(2L, new ProductResponse.BrandSummary(2L, "B"),
+                        Category.PANTS, 20000));
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getProducts_ShouldRejectInvalidPageSizeAndPriceRange() {
+        // Given
+        ProductSearchRequest noFilter = new ProductSearchRequest(null, null, null, null);
+        ProductSearchRequest invertedRange = new ProductSearchRequest(null, null, 5000, 1000);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> adminService.getProducts(noFilter, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> adminService.getProducts(noFilter, null, AdminService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> adminService.getProducts(invertedRange, null, 10));
+    }
+
+    @Test
+    void exportProducts_ShouldPassEveryStreamedRowToConsumer() {
+        // Given
+        ProductSearchRequest search = new ProductSearchRequest(null, null, null, null);
+        when(productRepository.streamPriceViews(null, null, null, null))
+                .thenReturn(Stream.of(ProductPriceView.of(product1), ProductPriceView.of(product2)));
+        List<ProductResponse> exported = new ArrayList<>();
+
+        // When
+        adminService.exportProducts(search, exported::add);
+
+        // Then
+        assertThat(exported).extracting(ProductResponse::id).containsExactly(1L, 2L);
     }
-} 
+}
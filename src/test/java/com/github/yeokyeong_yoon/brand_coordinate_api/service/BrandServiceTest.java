@@ -1,37 +1,55 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CheapestBrandResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.RankedBrandsResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BrandServiceTest {
 
+    @Mock
+    private BrandRepository brandRepository;
     @Mock
     private ProductRepository productRepository;
+    // The matrix reads the same columns the tests write, so it is built by hand rather than spied.
+    private final ProductColumns productColumns = new ProductColumns();
+    private final CategoryPriceIndex categoryPriceIndex = new CategoryPriceIndex(productColumns);
+    private final BrandPriceMatrix brandPriceMatrix = new BrandPriceMatrix(productColumns);
     @Mock
-    private BrandRepository brandRepository;
+    private PriceRangeCache priceRangeCache;
+    private CatalogVersion catalogVersion;
+    @Mock
+    private CatalogEventBus catalogEventBus;
 
-    @InjectMocks
     private BrandService brandService;
 
     private Brand brandA;
@@ -40,13 +58,22 @@ class BrandServiceTest {
 
     @BeforeEach
     void setUp() {
+        catalogVersion = new CatalogVersion(productColumns, categoryPriceIndex, brandPriceMatrix,
+                priceRangeCache);
+        brandService = new BrandService(brandRepository, productRepository, productColumns,
+                categoryPriceIndex, brandPriceMatrix, priceRangeCache, catalogVersion,
+                catalogEventBus);
+
         brandA = new Brand();
+        brandA.setId(1L);
         brandA.setName("A");
 
         brandB = new Brand();
+        brandB.setId(2L);
         brandB.setName("B");
 
         brandC = new Brand();
+        brandC.setId(3L);
         brandC.setName("C");
     }
 
@@ -93,9 +120,7 @@ class BrandServiceTest {
         accessoryA.setCategory(Category.ACCESSORY);
         accessoryA.setPrice(5000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(topA, outerA, pantsA, sneakersA, bagA,
-                        hatA, socksA, accessoryA));
+        load(topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA);
 
         // When
         List<Category> categories = Arrays.asList(Category.TOP, Category.OUTER, Category.PANTS,
@@ -204,11 +229,8 @@ class BrandServiceTest {
         accessoryB.setCategory(Category.ACCESSORY);
         accessoryB.setPrice(8000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(
-                        topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA,
-                        topB, outerB, pantsB, sneakersB, bagB, hatB, socksB, accessoryB
-                ));
+        load(topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA,
+                topB, outerB, pantsB, sneakersB, bagB, hatB, socksB, accessoryB);
 
         // When
         List<Category> categories = Arrays.asList(Category.TOP, Category.OUTER, Category.PANTS,
@@ -304,11 +326,8 @@ class BrandServiceTest {
         accessoryB.setCategory(Category.ACCESSORY);
         accessoryB.setPrice(10000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(
-                        topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA,
-                        topB, outerB, pantsB, sneakersB, bagB, hatB, socksB, accessoryB
-                ));
+        load(topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA,
+                topB, outerB, pantsB, sneakersB, bagB, hatB, socksB, accessoryB);
 
         // When
         List<Category> categories = Arrays.asList(Category.TOP, Category.OUTER, Category.PANTS,
@@ -375,9 +394,7 @@ class BrandServiceTest {
         topB.setCategory(Category.TOP);
         topB.setPrice(10000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(topA, outerA, pantsA, sneakersA, bagA,
-                        hatA, socksA, accessoryA));
+        load(topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA);
 
         // When
         List<Category> categories = Arrays.asList(Category.TOP, Category.OUTER, Category.PANTS,
@@ -412,8 +429,7 @@ class BrandServiceTest {
         outerB.setCategory(Category.OUTER);
         outerB.setPrice(10000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(topA, pantsA, topB, outerB));
+        load(topA, pantsA, topB, outerB);
 
         // When
         List<Category> categories = Arrays.asList(Category.TOP, Category.PANTS, Category.OUTER);
@@ -550,12 +566,9 @@ class BrandServiceTest {
         accessoryC.setCategory(Category.ACCESSORY);
         accessoryC.setPrice(6000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(
-                        topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA,
-                        topB, outerB, pantsB, sneakersB, bagB, hatB, socksB, accessoryB,
-                        topC, outerC, pantsC, sneakersC, bagC, hatC, socksC, accessoryC
-                ));
+        load(topA, outerA, pantsA, sneakersA, bagA, hatA, socksA, accessoryA,
+                topB, outerB, pantsB, sneakersB, bagB, hatB, socksB, accessoryB,
+                topC, outerC, pantsC, sneakersC, bagC, hatC, socksC, accessoryC);
 
         // When
         List<Category> categories = Arrays.asList(Category.TOP, Category.OUTER, Category.PANTS,
@@ -567,6 +580,46 @@ class BrandServiceTest {
         assertThat(response.cheapestBrands().get(0).total()).isEqualTo(91000);
     }
 
+    @Test
+    void findCheapestBrandTotal_ShouldReflectMatrixUpdates() {
+        // Given
+        List<Category> categories = Arrays.asList(Category.TOP, Category.PANTS);
+        add(brandA.getId(), brandA.getName(), Category.TOP, 5000);
+        add(brandA.getId(), brandA.getName(), Category.PANTS, 10000);
+        add(brandB.getId(), brandB.getName(), Category.TOP, 7000);
+        add(brandB.getId(), brandB.getName(), Category.PANTS, 9000);
+
+        // When: B와 A가 동일한 총액
+        add(brandB.getId(), brandB.getName(), Category.TOP, 6000);
+
+        // Then
+        assertThat(brandService.findCheapestBrandTotal(categories).cheapestBrands())
+                .extracting(CheapestBrandResponse.BrandTotal::brand)
+                .containsExactly("A", "B");
+
+        // When: A의 최저가 상품이 삭제되어 A만 남은 최저가 브랜드가 사라짐
+        remove(brandB.getId(), Category.TOP, 6000);
+        add(brandA.getId(), brandA.getName(), Category.PANTS, 12000);
+        remove(brandA.getId(), Category.PANTS, 10000);
+
+        // Then
+        CheapestBrandResponse response = brandService.findCheapestBrandTotal(categories);
+        assertThat(response.cheapestBrands()).hasSize(1);
+        assertThat(response.cheapestBrands().get(0).brand()).isEqualTo("B");
+        assertThat(response.cheapestBrands().get(0).total()).isEqualTo(16000);
+
+        // When: 브랜드 이름 변경과 삭제
+        renameBrand(brandB.getId(), "B2");
+        assertThat(brandService.findCheapestBrandTotal(categories).cheapestBrands().get(0).brand())
+                .isEqualTo("B2");
+        removeBrand(brandB.getId());
+
+        // Then
+        response = brandService.findCheapestBrandTotal(categories);
+        assertThat(response.cheapestBrands().get(0).brand()).isEqualTo("A");
+        assertThat(response.cheapestBrands().get(0).total()).isEqualTo(17000);
+    }
+
     @Test
     void findCheapestBrandTotal_Success() {
         // given
@@ -582,8 +635,7 @@ class BrandServiceTest {
         pantsA.setCategory(Category.PANTS);
         pantsA.setPrice(10000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(topA, pantsA));
+        load(topA, pantsA);
 
         // when
         CheapestBrandResponse response = brandService.findCheapestBrandTotal(categories);
@@ -630,8 +682,7 @@ class BrandServiceTest {
         pantsA.setCategory(Category.PANTS);
         pantsA.setPrice(10000);
 
-        when(productRepository.findAll())
-                .thenReturn(Arrays.asList(topA, pantsA));
+        load(topA, pantsA);
 
         // when
         CheapestBrandResponse response = brandService.findCheapestBrandTotal(categories);
@@ -660,4 +711,168 @@ class BrandServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> brandService.findCheapestBrandTotal(null));
     }
-} 
+
+    @Test
+    void findRankedBrands_ShouldPageByTotalThenBrandName() {
+        // Given
+        List<Category> categories = Arrays.asList(Category.TOP, Category.PANTS);
+        add(brandA.getId(), brandA.getName(), Category.TOP, 5000);
+        add(brandA.getId(), brandA.getName(), Category.PANTS, 10000);
+        add(brandB.getId(), brandB.getName(), Category.TOP, 4000);
+        add(brandB.getId(), brandB.getName(), Category.PANTS, 9000);
+        add(brandC.getId(), brandC.getName(), Category.TOP, 6000);
+        add(brandC.getId(), brandC.getName(), Category.PANTS, 9000);
+        add(4L, "D", Category.TOP, 1000);
+
+        // When
+        RankedBrandsResponse firstPage = brandService.findRankedBrands(categories, 0, 2);
+        RankedBrandsResponse secondPage = brandService.findRankedBrands(categories, 2, 2);
+
+        // Then: D는 PANTS가 없어 순위에서 빠지고, A와 C는 총액이 같아 이름순
+        assertThat(firstPage.totalBrands()).isEqualTo(3);
+        assertThat(firstPage.brands())
+                .extracting(RankedBrandsResponse.RankedBrand::rank,
+                        RankedBrandsResponse.RankedBrand::brand,
+                        RankedBrandsResponse.RankedBrand::total)
+                .containsExactly(tuple(1, "B", 13000), tuple(2, "A", 15000));
+        assertThat(firstPage.brands().get(0).categoryPrices()).containsExactly(
+                new CheapestBrandResponse.CategoryPrice("TOP", 4000),
+                new CheapestBrandResponse.CategoryPrice("PANTS", 9000));
+        assertThat(secondPage.brands())
+                .extracting(RankedBrandsResponse.RankedBrand::rank,
+                        RankedBrandsResponse.RankedBrand::brand)
+                .containsExactly(tuple(3, "C"));
+        assertThat(brandService.findRankedBrands(categories, 3, 2).brands()).isEmpty();
+
+        // When: 저장된 순위가 쓰기 이후에는 다시 계산됨
+        add(brandC.getId(), brandC.getName(), Category.TOP, 3000);
+        renameBrand(brandB.getId(), "B2");
+
+        // Then
+        assertThat(brandService.findRankedBrands(categories, 0, 3).brands())
+                .extracting(RankedBrandsResponse.RankedBrand::brand,
+                        RankedBrandsResponse.RankedBrand::total)
+                .containsExactly(tuple("C", 12000), tuple("B2", 13000), tuple("A", 15000));
+    }
+
+    @Test
+    void findRankedBrands_ShouldMatchFullSort() {
+        // Given
+        Random random = new Random(42);
+        List<Category> categories = Arrays.asList(Category.TOP, Category.BAG, Category.HAT);
+        List<RankedBrandsResponse.RankedBrand> expected = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            String name = "brand-" + id;
+            int total = 0;
+            for (Category category : categories) {
+                int price = 100 * (1 + random.nextInt(50));
+                add(id, name, category, price);
+                total += price;
+            }
+            expected.add(new RankedBrandsResponse.RankedBrand(0, name, List.of(), total));
+        }
+        expected.sort(Comparator.comparingInt(RankedBrandsResponse.RankedBrand::total)
+                .thenComparing(RankedBrandsResponse.RankedBrand::brand));
+
+        // When
+        RankedBrandsResponse page = brandService.findRankedBrands(categories, 37, 50);
+
+        // Then
+        assertThat(page.totalBrands()).isEqualTo(2000);
+        assertThat(page.brands()).extracting(RankedBrandsResponse.RankedBrand::brand)
+                .containsExactlyElementsOf(expected.subList(37, 87).stream()
+                        .map(RankedBrandsResponse.RankedBrand::brand).toList());
+        assertThat(page.brands().get(0).rank()).isEqualTo(38);
+        assertThat(brandService.findRankedBrands(categories, 900, 100).brands())
+                .extracting(RankedBrandsResponse.RankedBrand::brand)
+                .containsExactlyElementsOf(expected.subList(900, 1000).stream()
+                        .map(RankedBrandsResponse.RankedBrand::brand).toList());
+    }
+
+    @Test
+    void findCheapestBrandTotal_AfterBatchAdds_ShouldMatchReload() {
+        // Given: 브랜드가 겹치는 상품 묶음 세 개
+        Random random = new Random(7);
+        List<List<ProductPriceView>> batches = new ArrayList<>();
+        for (int batch = 0; batch < 3; batch++) {
+            List<ProductPriceView> products = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                long brandId = 1 + random.nextInt(150);
+                products.add(new ProductPriceView(null, brandId, "brand-" + brandId,
+                        Category.values()[random.nextInt(Category.values().length)],
+                        100 * (1 + random.nextInt(30))));
+            }
+            batches.add(products);
+        }
+
+        // When
+        for (List<ProductPriceView> products : batches) {
+            catalogVersion.update(() -> {
+                productColumns.addAll(products);
+                brandPriceMatrix.addAll(products);
+            });
+        }
+
+        // Then: 모든 카테고리 조합의 답이 처음부터 다시 만든 행렬과 같음
+        BrandPriceMatrix reloaded = new BrandPriceMatrix(productColumns);
+        reloaded.reload();
+        BrandPriceMatrix.View expected = reloaded.snapshot();
+        BrandPriceMatrix.View actual = brandPriceMatrix.snapshot();
+        for (int mask = 1; mask < 1 << Category.values().length; mask++) {
+            assertThat(actual.cheapestBrands(mask)).isEqualTo(expected.cheapestBrands(mask));
+        }
+        assertThat(actual.hasProducts()).isTrue();
+    }
+
+    @Test
+    void findRankedBrands_WithInvalidPaging_ThrowsException() {
+        List<Category> categories = List.of(Category.TOP);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> brandService.findRankedBrands(categories, -1, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> brandService.findRankedBrands(categories, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> brandService.findRankedBrands(categories, 0, BrandService.MAX_RANKED_LIMIT + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> brandService.findRankedBrands(categories, BrandService.MAX_RANKED_DEPTH, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> brandService.findRankedBrands(List.of(), 0, 10));
+    }
+
+    private void load(Product... products) {
+        catalogVersion.update(() -> {
+            productColumns.reload(Arrays.stream(products).map(ProductPriceView::of).toList());
+            brandPriceMatrix.reload();
+        });
+    }
+
+    // Admin writes update the columns before the matrix, which rescans them on minimum removal.
+    private void add(Long brandId, String brandName, Category category, int price) {
+        catalogVersion.update(() -> {
+            productColumns.add(brandId, brandName, category, price);
+            brandPriceMatrix.add(brandId, brandName, category, price);
+        });
+    }
+
+    private void remove(Long brandId, Category category, int price) {
+        catalogVersion.update(() -> {
+            productColumns.remove(brandId, category, price);
+            brandPriceMatrix.remove(brandId, category, price);
+        });
+    }
+
+    private void renameBrand(Long brandId, String brandName) {
+        catalogVersion.update(() -> {
+            productColumns.renameBrand(brandId, brandName);
+            brandPriceMatrix.renameBrand(brandId, brandName);
+        });
+    }
+
+    private void removeBrand(Long brandId) {
+        catalogVersion.update(() -> {
+            productColumns.removeBrand(brandId);
+            brandPriceMatrix.removeBrand(brandId);
+        });
+    }
+}
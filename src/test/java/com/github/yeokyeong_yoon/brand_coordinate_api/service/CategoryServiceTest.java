@@ -1,15 +1,22 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCacheProperties;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
@@ -25,8 +32,11 @@ class CategoryServiceTest {
 
     @Mock
     private ProductRepository productRepository;
+    private final ProductColumns productColumns = new ProductColumns();
+    @Spy
+    private PriceRangeCache priceRangeCache = new PriceRangeCache(
+            new PriceRangeCacheProperties());
 
-    @InjectMocks
     private CategoryService categoryService;
 
     private Brand brandA;
@@ -35,6 +45,11 @@ class CategoryServiceTest {
 
     @BeforeEach
     void setUp() {
+        // The columns are never loaded, so every price range is read from the repository.
+        CatalogVersion catalogVersion = new CatalogVersion(productColumns,
+                new CategoryPriceIndex(productColumns), new BrandPriceMatrix(productColumns),
+                priceRangeCache);
+        categoryService = new CategoryService(productRepository, catalogVersion, priceRangeCache);
         brandA = createBrand("A");
         brandB = createBrand("B");
         brandC = createBrand("C");
@@ -77,8 +92,9 @@ class CategoryServiceTest {
         expensiveTop.setCategory(Category.TOP);
         expensiveTop.setPrice(10000);
 
-        when(productRepository.findByCategory(Category.TOP))
-                .thenReturn(Arrays.asList(cheapTop, expensiveTop));
+        when(productRepository.findPriceRangeViewsByCategory(Category.TOP))
+                .thenReturn(Arrays.asList(ProductPriceView.of(cheapTop),
+                        ProductPriceView.of(expensiveTop)));
 
         // When
         CategoryPriceResponse response = categoryService.findPriceRangeByCategory(Category.TOP);
@@ -111,8 +127,8 @@ class CategoryServiceTest {
         topB.setCategory(Category.TOP);
         topB.setPrice(10000);
 
-        when(productRepository.findByCategory(Category.TOP))
-                .thenReturn(Arrays.asList(topA, topB));
+        when(productRepository.findPriceRangeViewsByCategory(Category.TOP))
+                .thenReturn(Arrays.asList(ProductPriceView.of(topA), ProductPriceView.of(topB)));
 
         // When
         CategoryPriceResponse response = categoryService.findPriceRangeByCategory(Category.TOP);
@@ -130,7 +146,7 @@ class CategoryServiceTest {
     @Test
     void getPriceRangeByCategory_WhenNoProducts_ShouldThrowException() {
         // Given
-        when(productRepository.findByCategory(Category.TOP))
+        when(productRepository.findPriceRangeViewsByCategory(Category.TOP))
                 .thenReturn(List.of());
 
         // When & Then
@@ -0,0 +1,232 @@
+package com.github.yeokyeong_yoon.brand_coordinate_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEvent;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
+import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.ProductImportResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.BrandRepository;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductColumns productColumns;
+    @Mock
+    private CategoryPriceIndex categoryPriceIndex;
+    @Mock
+    private BrandPriceMatrix brandPriceMatrix;
+    @Mock
+    private PriceRangeCache priceRangeCache;
+    @Mock
+    private CatalogVersion catalogVersion;
+    @Mock
+    private CatalogEventBus catalogEventBus;
+
+    private ProductImportService productImportService;
+
+    private Brand brandA;
+
+    @BeforeEach
+    void setUp() {
+        // Index updates run inside the catalog version's update, so the mock has to run them.
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(catalogVersion).update(any());
+        productImportService = new ProductImportService(brandRepository, productRepository,
+                productColumns, categoryPriceIndex, brandPriceMatrix, priceRangeCache, catalogVersion,
+                catalogEventBus, new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper());
+
+        brandA = new Brand();
+        brandA.setId(1L);
+        brandA.setName("A");
+    }
+
+    private ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Product> savedProducts() {
+        ArgumentCaptor<List<Product>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void importProducts_ShouldSaveValidCsvRowsAndReportInvalidOnes() {
+        // Given
+        when(brandRepository.findByNameIn(anyCollection())).thenReturn(List.of(brandA));
+        when(productRepository.findPriceViewsByBrandIdsAndPrices(anyCollection(), anyCollection()))
+                .thenReturn(List.of(new ProductPriceView(10L, 1L, "A", Category.TOP, 10000)));
+        String csv = """
+                brand,category,price
+                A,PANTS,5000
+                A,TOP,10000
+                Z,TOP,3000
+                A,SHIRT,3000
+                A,BAG,-1
+                A,PANTS,5000
+                """;
+
+        // When
+        ProductImportResponse result = productImportService.importProducts(body(csv),
+                ProductImportService.Format.CSV);
+
+        // Then
+        assertThat(result.received()).isEqualTo(6);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(5);
+        assertThat(result.errors()).extracting(ProductImportResponse.RowError::line)
+                .containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(result.errors().get(0).message()).startsWith("이미 등록된 상품입니다");
+        assertThat(result.errors().get(1).message()).isEqualTo("브랜드를 찾을 수 없습니다: Z");
+        assertThat(result.errors().get(2).message()).isEqualTo("알 수 없는 카테고리입니다: SHIRT");
+        assertThat(result.errors().get(3).message()).isEqualTo("가격은 0보다 커야 합니다.");
+        assertThat(result.errors().get(4).message()).startsWith("이미 등록된 상품입니다");
+
+        List<Product> saved = savedProducts();
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getCategory()).isEqualTo(Category.PANTS);
+        List<ProductPriceView> added = List.of(
+                new ProductPriceView(null, 1L, "A", Category.PANTS, 5000));
+        verify(productColumns).addAll(added);
+        verify(categoryPriceIndex).addAll(added);
+        verify(brandPriceMatrix).addAll(added);
+        verify(catalogEventBus).publishAll(
+                List.of(new CatalogEvent.ProductAdded(null, 1L, "A", Category.PANTS, 5000)));
+    }
+
+    @Test
+    void importProducts_ShouldParseNdjson() {
+        // Given
+        when(brandRepository.findByNameIn(anyCollection())).thenReturn(List.of(brandA));
+        String ndjson = """
+                {"brand":"A","category":"HAT","price":1500}
+                not json
+
+                {"brand":"A","category":"SOCKS","price":1700}
+                """;
+
+        // When
+        ProductImportResponse result = productImportService.importProducts(body(ndjson),
+                ProductImportService.Format.NDJSON);
+
+        // Then
+        assertThat(result.received()).isEqualTo(3);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+                new ProductImportResponse.RowError(2, "JSON 형식이 올바르지 않습니다."));
+        assertThat(savedProducts()).extracting(Product::getCategory)
+                .containsExactly(Category.HAT, Category.SOCKS);
+    }
+
+    @Test
+    void importProducts_WhenConcurrentInsertCollides_ShouldRetryAndRejectOnlyThatRow() {
+        // Given: 중복 확인 뒤 다른 요청이 A,TOP,2000을 먼저 커밋함
+        when(brandRepository.findByNameIn(anyCollection())).thenReturn(List.of(brandA));
+        when(productRepository.findPriceViewsByBrandIdsAndPrices(anyCollection(), anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new ProductPriceView(10L, 1L, "A", Category.TOP, 2000)));
+        doThrow(new DataIntegrityViolationException("unique",
+                new SQLException("Unique index or primary key violation", "23505")))
+                .doNothing()
+                .when(productRepository).flush();
+        String csv = """
+                A,TOP,1000
+                A,TOP,2000
+                A,TOP,3000
+                """;
+
+        // When
+        ProductImportResponse result = productImportService.importProducts(body(csv),
+                ProductImportService.Format.CSV);
+
+        // Then
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(new ProductImportResponse.RowError(2,
+                ProductConflicts.message("A", Category.TOP, 2000)));
+        verify(productRepository, times(2)).saveAll(any());
+        verify(catalogVersion).update(any());
+    }
+
+    @Test
+    void importProducts_WhenOtherIntegrityErrorOccurs_ShouldFailWholeBatchOnce() {
+        // Given
+        when(brandRepository.findByNameIn(anyCollection())).thenReturn(List.of(brandA));
+        doThrow(new DataIntegrityViolationException("fk",
+                new SQLException("Referential integrity constraint violation", "23506")))
+                .when(productRepository).flush();
+
+        // When
+        ProductImportResponse result = productImportService.importProducts(
+                body("A,TOP,1000\nA,TOP,2000\n"), ProductImportService.Format.CSV);
+
+        // Then
+        assertThat(result.imported()).isZero();
+        assertThat(result.errors()).extracting(ProductImportResponse.RowError::message)
+                .containsOnly("저장 중 오류가 발생했습니다.");
+        verify(productRepository).saveAll(any());
+    }
+
+    @Test
+    void importProducts_ShouldLookUpBrandsOncePerBatch() {
+        // Given
+        when(brandRepository.findByNameIn(anyCollection())).thenReturn(List.of(brandA));
+        StringBuilder csv = new StringBuilder();
+        int rows = ProductImportService.BATCH_SIZE * 2 + 1;
+        for (int i = 1; i <= rows; i++) {
+            csv.append("A,TOP,").append(i).append('\n');
+        }
+
+        // When
+        ProductImportResponse result = productImportService.importProducts(body(csv.toString()),
+                ProductImportService.Format.CSV);
+
+        // Then
+        assertThat(result.imported()).isEqualTo(rows);
+        verify(brandRepository, times(3)).findByNameIn(anyCollection());
+        verify(productRepository, times(3))
+                .findPriceViewsByBrandIdsAndPrices(anyCollection(), anyCollection());
+        verify(productRepository, times(3)).saveAll(any());
+        verify(catalogVersion, times(3)).update(any());
+    }
+}
@@ -1,16 +1,29 @@
 package com.github.yeokyeong_yoon.brand_coordinate_api.service;
 
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.BrandPriceMatrix;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogSnapshot;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CatalogVersion;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCache;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.PriceRangeCacheProperties;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.ProductColumns;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.CategoryPriceIndex;
+import com.github.yeokyeong_yoon.brand_coordinate_api.catalog.event.CatalogEventBus;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Brand;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Category;
 import com.github.yeokyeong_yoon.brand_coordinate_api.domain.Product;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryLowestPriceResponse;
 import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CategoryPriceResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.CheapestBrandResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.dto.PriceRangeResponse;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.InvalidRequestException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.exception.NotFoundException;
+import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductPriceView;
 import com.github.yeokyeong_yoon.brand_coordinate_api.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -18,7 +31,12 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,8 +44,17 @@ class ProductServiceTest {
 
     @Mock
     private ProductRepository productRepository;
+    // The indexes read the same columns the tests write, so they are built by hand rather than spied.
+    private final ProductColumns productColumns = new ProductColumns();
+    private final CategoryPriceIndex categoryPriceIndex = new CategoryPriceIndex(productColumns);
+    private final BrandPriceMatrix brandPriceMatrix = new BrandPriceMatrix(productColumns);
+    @Spy
+    private PriceRangeCache priceRangeCache = new PriceRangeCache(
+            new PriceRangeCacheProperties());
+    private CatalogVersion catalogVersion;
+    @Mock
+    private CatalogEventBus catalogEventBus;
 
-    @InjectMocks
     private ProductService productService;
 
     private Brand brandA;
@@ -36,25 +63,51 @@ class ProductServiceTest {
 
     @BeforeEach
     void setUp() {
+        catalogVersion = new CatalogVersion(productColumns, categoryPriceIndex, brandPriceMatrix,
+                priceRangeCache);
+        productService = new ProductService(productRepository, productColumns, categoryPriceIndex,
+                brandPriceMatrix, priceRangeCache, catalogVersion, catalogEventBus);
+
         brandA = new Brand();
+        brandA.setId(1L);
         brandA.setName("A");
 
         brandB = new Brand();
+        brandB.setId(2L);
         brandB.setName("B");
 
         brandC = new Brand();
+        brandC.setId(3L);
         brandC.setName("C");
     }
 
+    @Test
+    void saveProduct_WhenPriceAboveCap_ShouldRejectBeforeInserting() {
+        // Given: 메모리 인덱스가 "상품 없음"으로 쓰는 값
+        Product product = new Product();
+        product.setBrand(brandA);
+        product.setCategory(Category.TOP);
+        product.setPrice(Integer.MAX_VALUE);
+        long version = catalogVersion.current();
+
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> productService.saveProduct(product));
+        verifyNoInteractions(productRepository);
+        assertThat(catalogVersion.current()).isEqualTo(version);
+    }
+
     @Test
     void findLowestPricesByCategory_ShouldReturnCheapestProductForEachCategory() {
         // Given
+        List<ProductPriceView> products = new ArrayList<>();
         for (Category category : Category.values()) {
-            Product productA = createProduct(brandA, category, 10000);
-            Product productB = createProduct(brandB, category, 8000);
-            when(productRepository.findByCategory(category))
-                    .thenReturn(Arrays.asList(productA, productB));
+            products.add(createView(brandA, category, 10000));
+            products.add(createView(brandB, category, 8000));
         }
+        catalogVersion.update(() -> {
+            productColumns.reload(products);
+            categoryPriceIndex.reload();
+        });
 
         // When
         CategoryLowestPriceResponse response = productService.findLowestPricesByCategory();
@@ -75,8 +128,10 @@ class ProductServiceTest {
     @Test
     void findLowestPricesByCategory_WhenNoProducts_ShouldThrowException() {
         // Given
-        when(productRepository.findByCategory(Category.TOP))
-                .thenReturn(List.of());
+        catalogVersion.update(() -> {
+            productColumns.reload(List.of());
+            categoryPriceIndex.reload();
+        });
 
         // When & Then
         assertThrows(IllegalArgumentException.class,
@@ -86,13 +141,16 @@ class ProductServiceTest {
     @Test
     void findLowestPricesByCategory_WhenMultipleBrandsHaveSamePrice() {
         // Given
+        List<ProductPriceView> products = new ArrayList<>();
         for (Category category : Category.values()) {
-            Product productA = createProduct(brandA, category, 8000);
-            Product productB = createProduct(brandB, category, 8000);
-            Product productC = createProduct(brandC, category, 10000);
-            when(productRepository.findByCategory(category))
-                    .thenReturn(Arrays.asList(productA, productB, productC));
+            products.add(createView(brandA, category, 8000));
+            products.add(createView(brandB, category, 8000));
+            products.add(createView(brandC, category, 10000));
         }
+        catalogVersion.update(() -> {
+            productColumns.reload(products);
+            categoryPriceIndex.reload();
+        });
 
         // When
         CategoryLowestPriceResponse response = productService.findLowestPricesByCategory();
@@ -112,6 +170,88 @@ class ProductServiceTest {
         }
     }
 
+    @Test
+    void findLowestPricesByCategory_WhenIndexNotLoaded_ShouldQueryDatabase() {
+        // Given
+        List<ProductPriceView> lowestPriced = new ArrayList<>();
+        for (Category category : Category.values()) {
+            lowestPriced.add(createView(brandB, category, 8000));
+        }
+        lowestPriced.add(createView(brandA, Category.TOP, 8000));
+        when(productRepository.findLowestPricedViews()).thenReturn(lowestPriced);
+
+        // When
+        CategoryLowestPriceResponse response = productService.findLowestPricesByCategory();
+
+        // Then
+        assertThat(response.categories()).hasSize(Category.values().length);
+        assertThat(response.totalPrice()).isEqualTo(8000 * Category.values().length);
+        assertThat(response.categories())
+                .extracting(CategoryLowestPriceResponse.CategoryPrice::category)
+                .isSorted();
+        var top = response.categories().stream()
+                .filter(categoryPrice -> categoryPrice.category().equals(Category.TOP.name()))
+                .findFirst().orElseThrow();
+        assertThat(top.brandPrices())
+                .extracting(CategoryLowestPriceResponse.CategoryPrice.BrandPrice::brand)
+                .containsExactly("A", "B");
+    }
+
+    @Test
+    void findLowestPricesByCategory_ShouldReflectIndexUpdates() {
+        // Given
+        List<ProductPriceView> products = new ArrayList<>();
+        for (Category category : Category.values()) {
+            products.add(createView(brandA, category, 8000));
+            products.add(createView(brandB, category, 9000));
+        }
+        catalogVersion.update(() -> {
+            productColumns.reload(products);
+            categoryPriceIndex.reload();
+        });
+
+        // When
+        CatalogSnapshot before = catalogVersion.snapshot();
+        catalogVersion.update(() -> {
+            productColumns.add(brandC.getId(), brandC.getName(), Category.TOP, 8000);
+            categoryPriceIndex.add(brandC.getId(), brandC.getName(), Category.TOP, 8000);
+            productColumns.remove(brandA.getId(), Category.PANTS, 8000);
+            categoryPriceIndex.remove(brandA.getId(), Category.PANTS, 8000);
+            productColumns.renameBrand(brandB.getId(), "B2");
+            categoryPriceIndex.renameBrand(brandB.getId(), "B2");
+        });
+        CategoryLowestPriceResponse response = productService.findLowestPricesByCategory();
+
+        // Then
+        var top = response.categories().stream()
+                .filter(categoryPrice -> categoryPrice.category().equals(Category.TOP.name()))
+                .findFirst().orElseThrow();
+        assertThat(top.brandPrices())
+                .extracting(CategoryLowestPriceResponse.CategoryPrice.BrandPrice::brand)
+                .containsExactly("A", "C");
+
+        var pants = response.categories().stream()
+                .filter(categoryPrice -> categoryPrice.category().equals(Category.PANTS.name()))
+                .findFirst().orElseThrow();
+        assertThat(pants.brandPrices())
+                .extracting(CategoryLowestPriceResponse.CategoryPrice.BrandPrice::brand)
+                .containsExactly("B2");
+        assertThat(response.totalPrice()).isEqualTo(8000 * (Category.values().length - 1) + 9000);
+
+        // When
+        catalogVersion.update(() -> {
+            productColumns.removeBrand(brandB.getId());
+            categoryPriceIndex.removeBrand(brandB.getId());
+        });
+
+        // Then: 이전 스냅숏은 그 뒤의 쓰기와 상관없이 같은 결과를 냄
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.findLowestPricesByCategory());
+        assertThat(productService.findLowestPricesByCategory(before).totalPrice())
+                .isEqualTo(8000 * Category.values().length);
+        assertThat(before.version()).isEqualTo(catalogVersion.current() - 2);
+    }
+
     @Test
     void findPriceRangeByCategory_ShouldReturnCheapestAndMostExpensiveProducts() {
         // Given
@@ -128,8 +268,9 @@ class ProductServiceTest {
         expensiveTop.setCategory(Category.TOP);
         expensiveTop.setPrice(10000);
 
-        when(productRepository.findByCategory(Category.TOP))
-                .thenReturn(Arrays.asList(cheapTop, expensiveTop));
+        when(productRepository.findPriceRangeViewsByCategory(Category.TOP))
+                .thenReturn(Arrays.asList(ProductPriceView.of(cheapTop),
+                        ProductPriceView.of(expensiveTop)));
 
         // When
         CategoryPriceResponse response = productService.findPriceRangeByCategory(Category.TOP);
@@ -144,6 +285,88 @@ class ProductServiceTest {
         assertThat(response.highestPrices().get(0).price()).isEqualTo(10000);
     }
 
+    @Test
+    void findPriceRangeByCategory_ShouldReloadOnlyWhenWriteMovesMinOrMax() {
+        // Given
+        when(productRepository.findPriceRangeViewsByCategory(Category.TOP)).thenReturn(List.of(
+                new ProductPriceView(1L, 1L, "A", Category.TOP, 5000),
+                new ProductPriceView(2L, 2L, "B", Category.TOP, 10000)));
+        productService.findPriceRangeByCategory(Category.TOP);
+
+        // When
+        productService.findPriceRangeByCategory(Category.TOP);
+        catalogVersion.update(() -> {
+            priceRangeCache.onProductAdded(Category.TOP, 7000);
+            priceRangeCache.onProductAdded(Category.PANTS, 1000);
+        });
+        productService.findPriceRangeByCategory(Category.TOP);
+        catalogVersion.update(() -> priceRangeCache.onProductRemoved(Category.TOP, 10000));
+        productService.findPriceRangeByCategory(Category.TOP);
+
+        // Then
+        verify(productRepository, times(2)).findPriceRangeViewsByCategory(Category.TOP);
+        assertThat(priceRangeCache.stats()).isEqualTo(new PriceRangeCache.Stats(2, 2, 0, 1, 1));
+    }
+
+    @Test
+    void findPriceRangeByCategory_WhenColumnsLoaded_ShouldScanColumnsWithoutQuery() {
+        // Given
+        catalogVersion.update(() -> productColumns.reload(List.of(
+                createView(brandB, Category.TOP, 5000),
+                createView(brandA, Category.TOP, 5000),
+                createView(brandC, Category.TOP, 12000),
+                createView(brandC, Category.PANTS, 1000))));
+
+        // When
+        CategoryPriceResponse response = productService.findPriceRangeByCategory(Category.TOP);
+
+        // Then
+        assertThat(response.lowestPrices()).extracting(CategoryPriceResponse.BrandPrice::brand)
+                .containsExactly("A", "B");
+        assertThat(response.highestPrices()).extracting(CategoryPriceResponse.BrandPrice::price)
+                .containsExactly(12000);
+        assertThat(productService.findPriceRangeByCategory())
+                .extracting(PriceRangeResponse::getCategory, PriceRangeResponse::getMinPrice,
+                        PriceRangeResponse::getMaxPrice)
+                .containsExactly(tuple("TOP", 5000.0, 12000.0), tuple("PANTS", 1000.0, 1000.0));
+        assertThrows(NotFoundException.class,
+                () -> productService.findPriceRangeByCategory(Category.HAT));
+        verify(productRepository, never()).findPriceRangeViewsByCategory(Category.TOP);
+    }
+
+    @Test
+    void findCheapestBrandTotal_ShouldReturnCheapestBrandsForCategorySet() {
+        // Given
+        catalogVersion.update(() -> {
+            productColumns.reload(List.of(
+                    createView(brandA, Category.TOP, 5000),
+                    createView(brandA, Category.PANTS, 4000),
+                    createView(brandA, Category.PANTS, 3000),
+                    createView(brandB, Category.TOP, 4000),
+                    createView(brandB, Category.PANTS, 4000),
+                    createView(brandC, Category.TOP, 1000)));
+            brandPriceMatrix.reload();
+        });
+
+        // When
+        List<CheapestBrandResponse.BrandTotal> result = productService.findCheapestBrandTotal(
+                List.of(Category.TOP, Category.PANTS));
+
+        // Then
+        assertThat(result).extracting(CheapestBrandResponse.BrandTotal::brand)
+                .containsExactly("A", "B");
+        assertThat(result).extracting(CheapestBrandResponse.BrandTotal::total)
+                .containsOnly(8000);
+        assertThat(result.get(0).categoryPrices())
+                .extracting(CheapestBrandResponse.CategoryPrice::price)
+                .containsExactly(5000, 3000);
+        assertThat(productService.findCheapestBrandTotal(List.of(Category.TOP)))
+                .extracting(CheapestBrandResponse.BrandTotal::brand)
+                .containsExactly("C");
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.findCheapestBrandTotal(List.of(Category.HAT)));
+    }
+
     private Product createProduct(Brand brand, Category category, int price) {
         Product product = new Product();
         product.setBrand(brand);
@@ -151,4 +374,8 @@ class ProductServiceTest {
         product.setPrice(price);
         return product;
     }
-}
\ No newline at end of file
+
+    private ProductPriceView createView(Brand brand, Category category, int price) {
+        return ProductPriceView.of(createProduct(brand, category, price));
+    }
+}